@@ -1,12 +1,28 @@
 package rocks.bastion;
 
+import com.google.common.base.Throwables;
 import rocks.bastion.core.Assertions;
 import rocks.bastion.core.BastionFactory;
 import rocks.bastion.core.Callback;
 import rocks.bastion.core.HttpRequest;
+import rocks.bastion.core.batch.BatchBuilder;
+import rocks.bastion.core.batch.BatchReport;
 import rocks.bastion.core.builder.BastionBuilder;
 import rocks.bastion.core.builder.ExecuteRequestBuilder;
 import rocks.bastion.core.builder.PostExecutionBuilder;
+import rocks.bastion.core.flow.FlowBuilder;
+import rocks.bastion.core.load.LoadReport;
+import rocks.bastion.core.load.LoadTestBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 /**
  * The main starting point for creating a Bastion test using the library.
@@ -46,6 +62,12 @@ import rocks.bastion.core.builder.PostExecutionBuilder;
  * <li>{@link ExecuteRequestBuilder#call()}: Starts the Bastion test by executing the HTTP request.</li>
  * </ul>
  * <p>
+ * If you need to run many independent Bastion tests, you can pass them all to the {@link #all(ExecuteRequestBuilder[])}
+ * method instead of calling {@link ExecuteRequestBuilder#call()} on each one. Bastion will then send all the HTTP requests
+ * at once and wait for them to complete. To run the same assertions against many requests, such as in data-driven tests,
+ * pass the requests to the {@link #batch(List)} method instead.
+ * </p>
+ * <p>
  * You cannot call any of the methods above before any of the methods listed before it. Therefore, in your test, you should call
  * the methods above one after each other as listed above: you can skip any of the methods and Bastion will assign defaults.
  * For example, if you want to make an HTTP request, apply some assertions without binding a model or using a callback, you would
@@ -163,7 +185,138 @@ public final class Bastion {
      * @return A fluent-builder object which will let you bind a model type, add assertions, add callbacks and execute the test.
      */
     public static BastionBuilder<Object> request(String message, HttpRequest request) {
-        return BastionFactory.getDefaultBastionFactory().getBastion(message, request);
+        return BastionFactory.getCurrentBastionFactory().getBastion(message, request);
+    }
+
+    /**
+     * <p>
+     * Starts all of the given Bastion tests at once and waits until every one of them has completed. Each test is started
+     * using {@link ExecuteRequestBuilder#callAsync()} so, depending on how the {@link BastionFactory} was configured, the
+     * HTTP requests are either sent using the non-blocking support of the configured transport or are each run on a thread of
+     * the factory's call executor. The total time taken by this method is therefore close to that of the slowest test
+     * rather than the sum of all the tests.
+     * </p>
+     * <p>
+     * The tests given to this method must be independent of each other because there is no guarantee on the order in which
+     * they are executed. If any of the tests fail, this method waits for all the remaining tests to complete and then throws
+     * the failure of the first test (in the order given) which failed.
+     * </p>
+     *
+     * @param tests The Bastion tests to execute, prepared using the {@link #request(String, HttpRequest)} method.
+     * @return The executed tests, in the same order they were given, which can be used to retrieve each HTTP response and
+     * decoded model.
+     */
+    public static List<PostExecutionBuilder<?>> all(ExecuteRequestBuilder<?>... tests) {
+        Objects.requireNonNull(tests);
+        return all(Arrays.asList(tests));
+    }
+
+    /**
+     * Starts all of the given Bastion tests at once and waits until every one of them has completed. See
+     * {@link #all(ExecuteRequestBuilder[])} for more information.
+     *
+     * @param tests The Bastion tests to execute, prepared using the {@link #request(String, HttpRequest)} method.
+     * @return The executed tests, in the same order they were given, which can be used to retrieve each HTTP response and
+     * decoded model.
+     */
+    public static List<PostExecutionBuilder<?>> all(Collection<? extends ExecuteRequestBuilder<?>> tests) {
+        Objects.requireNonNull(tests);
+        List<CompletableFuture<? extends PostExecutionBuilder<?>>> pendingTests = tests.stream().map(ExecuteRequestBuilder::callAsync).collect(Collectors.toList());
+        CompletableFuture.allOf(pendingTests.toArray(new CompletableFuture<?>[pendingTests.size()])).exceptionally(throwable -> null).join();
+        List<PostExecutionBuilder<?>> executedTests = new ArrayList<>(pendingTests.size());
+        for (CompletableFuture<? extends PostExecutionBuilder<?>> pendingTest : pendingTests) {
+            try {
+                executedTests.add(pendingTest.join());
+            } catch (CompletionException exception) {
+                throw Throwables.propagate((exception.getCause() != null) ? exception.getCause() : exception);
+            }
+        }
+        return executedTests;
+    }
+
+    /**
+     * <p>
+     * Starts building a flow of Bastion tests, called steps, which depend on each other's results, such as a step which
+     * gets a resource using the ID returned by the step which created it. Each step is started as soon as the steps it
+     * depends on have completed, and steps which do not depend on each other run concurrently, so the flow takes as long
+     * as its longest chain of dependent steps rather than the sum of all its steps.
+     * </p>
+     * <p>
+     * Use a flow instead of chaining Bastion tests using callbacks when a test performs several requests, only some of
+     * which depend on each other.
+     * </p>
+     *
+     * @param message A descriptive message for this flow.
+     * @return A fluent-builder object which will let you declare the steps of the flow and execute them.
+     */
+    public static FlowBuilder flow(String message) {
+        return new FlowBuilder(message);
+    }
+
+    /**
+     * <p>
+     * Starts building a batch which will execute all of the specified HTTP requests through the same pipeline: every
+     * response is bound to the same model type, checked using the same assertions and handed to the same callback. The
+     * requests are executed with bounded concurrency and a failing request does not stop the rest of the batch. Calling
+     * the batch returns a {@link BatchReport report} with the result of every request.
+     * </p>
+     * <p>
+     * Use a batch instead of building a separate Bastion test for each request when running large, data-driven suites.
+     * </p>
+     *
+     * @param message  A descriptive message for the requests in this batch.
+     * @param requests The HTTP requests that Bastion will execute for this batch.
+     * @return A fluent-builder object which will let you bind a model type, add assertions, add a callback, configure
+     * concurrency and execute the batch.
+     */
+    public static BatchBuilder<Object> batch(String message, List<? extends HttpRequest> requests) {
+        return new BatchBuilder<>(BastionFactory.getCurrentBastionFactory(), message, requests);
+    }
+
+    /**
+     * Starts building a batch which will execute all of the specified HTTP requests. See {@link #batch(String, List)} for
+     * more information.
+     *
+     * @param requests The HTTP requests that Bastion will execute for this batch.
+     * @return A fluent-builder object which will let you bind a model type, add assertions, add a callback, configure
+     * concurrency and execute the batch.
+     */
+    public static BatchBuilder<Object> batch(List<? extends HttpRequest> requests) {
+        return batch("", requests);
+    }
+
+    /**
+     * <p>
+     * Starts building an open-model load test which will issue the specified HTTP requests, in turn, at a fixed arrival
+     * rate for a fixed duration. Requests are issued on schedule regardless of how long the remote server takes to
+     * respond. Running the load test returns a {@link LoadReport report} with the achieved throughput, error rate and
+     * latency percentiles.
+     * </p>
+     * <p>
+     * Use a load test to reuse the same request definitions as your functional Bastion tests for performance testing.
+     * </p>
+     *
+     * @param message  A descriptive message for the requests issued by this load test.
+     * @param requests The HTTP requests that Bastion will issue during this load test.
+     * @return A fluent-builder object which will let you bind a model type, add assertions, configure the arrival rate and
+     * duration and run the load test.
+     */
+    public static LoadTestBuilder<Object> load(String message, List<? extends HttpRequest> requests) {
+        return new LoadTestBuilder<>(BastionFactory.getCurrentBastionFactory(), message, requests);
+    }
+
+    /**
+     * Starts building an open-model load test which will repeatedly issue the specified HTTP request. See
+     * {@link #load(String, List)} for more information.
+     *
+     * @param message A descriptive message for the requests issued by this load test.
+     * @param request The HTTP request that Bastion will issue during this load test.
+     * @return A fluent-builder object which will let you bind a model type, add assertions, configure the arrival rate and
+     * duration and run the load test.
+     */
+    public static LoadTestBuilder<Object> load(String message, HttpRequest request) {
+        Objects.requireNonNull(request);
+        return load(message, Collections.singletonList(request));
     }
 
     private Bastion() {
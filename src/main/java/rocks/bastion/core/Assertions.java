@@ -3,8 +3,9 @@ package rocks.bastion.core;
 import java.util.Objects;
 
 /**
- * Specifies assertions to apply to a response model received after performing a Bastion request. The assertions
- * are checked only if Bastion can bind a model object to the response's content successfully.
+ * Specifies assertions to apply to a response model received after performing a Bastion request. Assertions which
+ * {@link #isModelRequired() require the model} are checked only if Bastion can bind a model object to the response's
+ * content successfully.
  * <p>
  * Technically, the assertions can be any executable code but it is strongly recommended that a user only performs
  * stateless checks on the provided model and response. If you would like to change the state of the current test
@@ -19,7 +20,15 @@ public interface Assertions<M> {
     /**
      * The constant representing the assertions which always pass.
      */
-    Assertions<?> NO_ASSERTIONS = (statusCode, response, model) -> {
+    Assertions<?> NO_ASSERTIONS = new Assertions<Object>() {
+        @Override
+        public void execute(int statusCode, ModelResponse<?> response, Object model) {
+        }
+
+        @Override
+        public boolean isModelRequired() {
+            return false;
+        }
     };
 
     /**
@@ -41,11 +50,27 @@ public interface Assertions<M> {
      *
      * @param statusCode The HTTP status code received for the response.
      * @param response   A representation of the HTTP response which was received.
-     * @param model      The model object that was created by binding the HTTP response body to an actual Java object.
-     * @throws AssertionError Thrown if the HTTP response does not pass the assertions.
+     * @param model      The model object that was created by binding the HTTP response body to an actual Java object, or
+     *                   {@literal null} if these assertions do not {@link #isModelRequired() require the model}.
+     * @throws AssertionError Thrown if the HTTP response does not pass the assertions, or if the assertions request the
+     *                        model using {@link ModelResponse#getModel()} and the response cannot be decoded into the bound
+     *                        model type.
      */
     void execute(int statusCode, ModelResponse<? extends M> response, M model) throws AssertionError;
 
+    /**
+     * Indicates whether these assertions use the {@code model} parameter given to {@link #execute(int, ModelResponse, Object)}.
+     * Bastion only decodes the model of a response when it is needed, so assertions which only check the status code,
+     * the headers or the raw body should return {@literal false}: Bastion will then pass a {@literal null} model and skip
+     * decoding the response altogether. Such assertions can still get the model, decoding it on demand, using
+     * {@link ModelResponse#getModel()}.
+     *
+     * @return {@literal true} if the model should be decoded before executing these assertions; {@literal false}, otherwise.
+     */
+    default boolean isModelRequired() {
+        return true;
+    }
+
     /**
      * Combine two {@linkplain Assertions} objects together by sequential composition. This function will return a new
      * {@linkplain Assertions} object which will first execute this {@linkplain Assertions} objects and then execute the
@@ -56,9 +81,18 @@ public interface Assertions<M> {
      */
     default Assertions<M> and(Assertions<M> after) {
         Objects.requireNonNull(after);
-        return (statusCode, response, model) -> {
-            execute(statusCode, response, model);
-            after.execute(statusCode, response, model);
+        Assertions<M> before = this;
+        return new Assertions<M>() {
+            @Override
+            public void execute(int statusCode, ModelResponse<? extends M> response, M model) throws AssertionError {
+                before.execute(statusCode, response, before.isModelRequired() ? model : null);
+                after.execute(statusCode, response, after.isModelRequired() ? model : null);
+            }
+
+            @Override
+            public boolean isModelRequired() {
+                return before.isModelRequired() || after.isModelRequired();
+            }
         };
     }
 
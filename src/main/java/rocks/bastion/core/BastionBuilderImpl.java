@@ -1,15 +1,28 @@
 package rocks.bastion.core;
 
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import rocks.bastion.core.builder.*;
 import rocks.bastion.core.event.*;
 import rocks.bastion.core.model.DecodingHints;
 import rocks.bastion.core.model.ResponseDecoder;
+import rocks.bastion.core.model.ResponseDecoderRegistry;
 import rocks.bastion.core.model.ResponseDecodersRegistrar;
+import rocks.bastion.core.transport.HttpTransport;
+import rocks.bastion.core.transport.UnirestHttpTransport;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 
@@ -22,24 +35,36 @@ import static java.lang.String.format;
  */
 public class BastionBuilderImpl<MODEL> implements BastionBuilder<MODEL>, ResponseDecodersRegistrar, BastionEventPublisher, PostExecutionBuilder<MODEL> {
 
+    /**
+     * Completes the asynchronous calls which were sent using the non-blocking support of the transport. Assertions and
+     * callbacks may block, so they run neither on the transport's I/O threads nor on the shared
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, which would limit how many calls are completed at once.
+     */
+    private static final Executor COMPLETION_EXECUTOR = newCompletionExecutor();
+
     private String message;
     private Collection<BastionListener> bastionListenerCollection;
-    private Collection<ResponseDecoder> modelConverters;
+    private ResponseDecoderRegistry modelConverters;
+    private boolean sharedModelConverters;
     private HttpRequest request;
+    private HttpTransport httpTransport;
+    private Executor callExecutor;
     private Class<MODEL> modelType;
     private boolean suppressAssertions;
     private Assertions<? super MODEL> assertions;
     private Callback<? super MODEL> callback;
-    private MODEL model;
     private ModelResponse<MODEL> modelResponse;
 
     BastionBuilderImpl(String message, HttpRequest request) {
         Objects.requireNonNull(message);
         Objects.requireNonNull(request);
         bastionListenerCollection = new LinkedList<>();
-        modelConverters = new LinkedList<>();
+        modelConverters = null;
+        sharedModelConverters = false;
         this.message = message;
         this.request = request;
+        httpTransport = new UnirestHttpTransport();
+        callExecutor = null;
         modelType = null;
         suppressAssertions = false;
         assertions = Assertions.noAssertions();
@@ -61,6 +86,42 @@ public class BastionBuilderImpl<MODEL> implements BastionBuilder<MODEL>, Respons
         this.suppressAssertions = suppressAssertions;
     }
 
+    /**
+     * Sets the {@link HttpTransport} which will be used to send the HTTP request when this Bastion request is called.
+     *
+     * @param httpTransport A non-{@literal null} transport to send the HTTP request with
+     */
+    public void setHttpTransport(HttpTransport httpTransport) {
+        Objects.requireNonNull(httpTransport);
+        this.httpTransport = httpTransport;
+    }
+
+    /**
+     * Sets the {@link Executor} which will run this Bastion request when it is called asynchronously using {@link #callAsync()}.
+     * The whole of the blocking {@link #call()} method will run on one of the executor's threads. If no executor is set,
+     * asynchronous calls use the non-blocking support of the configured {@link HttpTransport} instead.
+     *
+     * @param callExecutor A non-{@literal null} executor to run this Bastion request on
+     */
+    public void setCallExecutor(Executor callExecutor) {
+        Objects.requireNonNull(callExecutor);
+        this.callExecutor = callExecutor;
+    }
+
+    /**
+     * Sets the {@link ResponseDecoderRegistry model converters} which will be used to decode the response when this Bastion
+     * request is called, replacing any model converters registered so far. The registry is typically shared by all the
+     * requests created by a {@link BastionFactory}, so this builder never modifies it: registering another model converter
+     * with this builder afterwards registers it with a copy of the registry which only this builder uses.
+     *
+     * @param modelConverters A non-{@literal null} registry of model converters
+     */
+    public void setModelConverters(ResponseDecoderRegistry modelConverters) {
+        Objects.requireNonNull(modelConverters);
+        this.modelConverters = modelConverters;
+        sharedModelConverters = true;
+    }
+
     @Override
     public void registerListener(BastionListener listener) {
         bastionListenerCollection.add(listener);
@@ -69,47 +130,83 @@ public class BastionBuilderImpl<MODEL> implements BastionBuilder<MODEL>, Respons
     @Override
     public void notifyListenersCallStarted(BastionStartedEvent event) {
         Objects.requireNonNull(event);
-        bastionListenerCollection.forEach(listener -> listener.callStarted(event));
+        notifyListeners(listener -> listener.callStarted(event));
     }
 
     @Override
     public void notifyListenersCallFailed(BastionFailureEvent event) {
         Objects.requireNonNull(event);
-        bastionListenerCollection.forEach(listener -> listener.callFailed(event));
+        notifyListeners(listener -> listener.callFailed(event));
     }
 
     @Override
     public void notifyListenersCallError(BastionErrorEvent event) {
         Objects.requireNonNull(event);
-        bastionListenerCollection.forEach(listener -> listener.callError(event));
+        notifyListeners(listener -> listener.callError(event));
     }
 
     @Override
     public void notifyListenersCallFinished(BastionFinishedEvent event) {
         Objects.requireNonNull(event);
-        bastionListenerCollection.forEach(listener -> listener.callFinished(event));
+        notifyListeners(listener -> listener.callFinished(event));
+    }
+
+    @Override
+    public void notifyListenersConnectionPoolUpdated(BastionConnectionPoolEvent event) {
+        Objects.requireNonNull(event);
+        notifyListeners(listener -> listener.connectionPoolUpdated(event));
+    }
+
+    /**
+     * Delivers an event to every registered listener, even if an earlier listener throws, such as a listener which rethrows
+     * assertion failures so that they propagate up the frame stack. The first exception thrown by a listener is rethrown
+     * once all the listeners have been notified.
+     */
+    private void notifyListeners(Consumer<BastionListener> notification) {
+        Throwable listenerFailure = null;
+        for (BastionListener listener : bastionListenerCollection) {
+            try {
+                notification.accept(listener);
+            } catch (RuntimeException | Error failure) {
+                if (listenerFailure == null) {
+                    listenerFailure = failure;
+                }
+            }
+        }
+        if (listenerFailure instanceof RuntimeException) {
+            throw (RuntimeException) listenerFailure;
+        } else if (listenerFailure instanceof Error) {
+            throw (Error) listenerFailure;
+        }
     }
 
     @Override
     public PostExecutionBuilder<? extends MODEL> call() {
-        modelResponse = null;
+        return completeCall(() -> {
+            notifyListenersCallStarted(new BastionStartedEvent(getDescriptiveText()));
+            return new RequestExecutor(request, httpTransport).execute();
+        });
+    }
+
+    @Override
+    public CompletableFuture<PostExecutionBuilder<? extends MODEL>> callAsync() {
+        if (callExecutor != null) {
+            return CompletableFuture.supplyAsync(this::call, callExecutor);
+        }
+        CompletableFuture<Response> pendingResponse;
         try {
             notifyListenersCallStarted(new BastionStartedEvent(getDescriptiveText()));
-            Response response = new RequestExecutor(request).execute();
-            model = decodeModel(response);
-            modelResponse = new ModelResponse<>(response, model);
-            executeAssertions(modelResponse);
-            executeCallback(modelResponse);
-            return this;
-        } catch (AssertionError e) {
-            notifyListenersCallFailed(new BastionFailureEvent(getDescriptiveText(), modelResponse, e));
-            return this;
+            pendingResponse = new RequestExecutor(request, httpTransport).executeAsync();
         } catch (Throwable t) {
-            notifyListenersCallError(new BastionErrorEvent(getDescriptiveText(), modelResponse, t));
-            return this;
-        } finally {
-            notifyListenersCallFinished(new BastionFinishedEvent(getDescriptiveText(), modelResponse));
+            pendingResponse = new CompletableFuture<>();
+            pendingResponse.completeExceptionally(t);
         }
+        return pendingResponse.handleAsync((response, throwable) -> completeCall(() -> {
+            if (throwable != null) {
+                throw Throwables.propagate((throwable instanceof CompletionException) && (throwable.getCause() != null) ? throwable.getCause() : throwable);
+            }
+            return response;
+        }), COMPLETION_EXECUTOR);
     }
 
     @Override
@@ -137,7 +234,7 @@ public class BastionBuilderImpl<MODEL> implements BastionBuilder<MODEL>, Respons
 
     @Override
     public MODEL getModel() {
-        return model;
+        return (modelResponse == null) ? null : modelResponse.getModel();
     }
 
     @Override
@@ -148,7 +245,55 @@ public class BastionBuilderImpl<MODEL> implements BastionBuilder<MODEL>, Respons
     @Override
     public void registerModelConverter(ResponseDecoder decoder) {
         Objects.requireNonNull(decoder);
-        modelConverters.add(decoder);
+        getOwnModelConverters().register(decoder);
+    }
+
+    @Override
+    public void registerModelConverter(ResponseDecoder decoder, String mimeTypePattern) {
+        Objects.requireNonNull(decoder);
+        Objects.requireNonNull(mimeTypePattern);
+        getOwnModelConverters().register(decoder, mimeTypePattern);
+    }
+
+    private ResponseDecoderRegistry getOwnModelConverters() {
+        if (modelConverters == null) {
+            modelConverters = new ResponseDecoderRegistry();
+        } else if (sharedModelConverters) {
+            modelConverters = new ResponseDecoderRegistry(modelConverters);
+            sharedModelConverters = false;
+        }
+        return modelConverters;
+    }
+
+    private PostExecutionBuilder<? extends MODEL> completeCall(Supplier<Response> responseSupplier) {
+        modelResponse = null;
+        try {
+            // Decoders are given a model-less ModelResponse so that the JSON tree they parse is shared with the assertions.
+            ModelResponse<?> decodingResponse = new ModelResponse<>(responseSupplier.get(), null);
+            modelResponse = ModelResponse.withLazyModel(decodingResponse, () -> decodeModel(decodingResponse));
+            executeAssertions(modelResponse);
+            executeCallback(modelResponse);
+            return this;
+        } catch (AssertionError e) {
+            notifyListenersCallFailed(new BastionFailureEvent(getDescriptiveText(), modelResponse, e));
+            return this;
+        } catch (Throwable t) {
+            notifyListenersCallError(new BastionErrorEvent(getDescriptiveText(), modelResponse, t));
+            return this;
+        } finally {
+            httpTransport.getConnectionPoolStatistics().ifPresent(statistics ->
+                    notifyListenersConnectionPoolUpdated(new BastionConnectionPoolEvent(getDescriptiveText(), modelResponse, statistics)));
+            notifyListenersCallFinished(new BastionFinishedEvent(getDescriptiveText(), modelResponse));
+        }
+    }
+
+    private static Executor newCompletionExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "bastion-completion-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     private String getDescriptiveText() {
@@ -160,19 +305,20 @@ public class BastionBuilderImpl<MODEL> implements BastionBuilder<MODEL>, Respons
     }
 
     private void executeCallback(ModelResponse<MODEL> modelResponse) {
-        callback.execute(modelResponse.getStatusCode(), modelResponse, modelResponse.getModel());
+        callback.execute(modelResponse.getStatusCode(), modelResponse, callback.isModelRequired() ? modelResponse.getModel() : null);
     }
 
     private void executeAssertions(ModelResponse<MODEL> modelResponse) {
         if (!suppressAssertions) {
-            assertions.execute(modelResponse.getStatusCode(), modelResponse, modelResponse.getModel());
+            assertions.execute(modelResponse.getStatusCode(), modelResponse, assertions.isModelRequired() ? modelResponse.getModel() : null);
         }
     }
 
     private MODEL decodeModel(Response response) {
         DecodingHints decodingHints = new DecodingHints(modelType);
         Object decodedResponseModel = null;
-        for (ResponseDecoder converter : modelConverters) {
+        List<ResponseDecoder> converters = (modelConverters == null) ? Collections.emptyList() : modelConverters.getDecoders(response.getContentType());
+        for (ResponseDecoder converter : converters) {
             decodedResponseModel = converter.decode(response, decodingHints).orElse(null);
             if (decodedResponseModel != null) {
                 break;
@@ -2,46 +2,155 @@ package rocks.bastion.core;
 
 import rocks.bastion.Bastion;
 import rocks.bastion.core.builder.BastionBuilder;
+import rocks.bastion.core.model.ResponseDecoder;
+import rocks.bastion.core.model.ResponseDecoderRegistry;
+import rocks.bastion.core.model.ResponseDecodersRegistrar;
+import rocks.bastion.core.transport.ApacheHttpClientTransport;
+import rocks.bastion.core.transport.ConnectionPoolSettings;
+import rocks.bastion.core.transport.HttpProtocolMode;
+import rocks.bastion.core.transport.HttpTransport;
+import rocks.bastion.core.transport.OkHttpTransport;
+import rocks.bastion.core.transport.UnirestHttpTransport;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Creates and configures an instance of the {@link BastionBuilderImpl} fluent builder. A single factory can be designated as the
  * <i>Default</i> factory which is used by the {@link Bastion#request(String, HttpRequest)} method. Subclasses will generally
  * implement the {@link BastionFactory#prepareBastion(BastionBuilderImpl)} to further configure the instance with any additional
  * features necessary.
+ * <p>
+ * The default factory can be overridden for the code running on a single thread by {@link #openScope(BastionFactory) opening
+ * a scope}, so that concurrent test suites running in the same JVM can each use their own factory, with their own transports,
+ * model converters and listeners, without interfering with each other. The factory used by {@link Bastion} is looked up
+ * without any locking, using {@link #getCurrentBastionFactory()}.
  */
 public abstract class BastionFactory {
 
-    private static BastionFactory defaultBastionFactory = null;
+    private static final AtomicReference<BastionFactory> defaultBastionFactory = new AtomicReference<>();
+    private static final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
 
     /**
      * Gets the {@link BastionFactory} which is designated as the "Default" factory. This factory is the one used
-     * when a user calls the {@link Bastion#request(String, HttpRequest)} method.
+     * when a user calls the {@link Bastion#request(String, HttpRequest)} method on a thread which has not opened a
+     * {@link #openScope(BastionFactory) scope} with a different factory.
      *
      * @return A non-null factory instance which is considered to be the "Default."
      */
-    public static synchronized BastionFactory getDefaultBastionFactory() {
-        if (defaultBastionFactory == null) {
-            setDefaultBastionFactory(new DefaultBastionFactory());
+    public static BastionFactory getDefaultBastionFactory() {
+        BastionFactory factory = defaultBastionFactory.get();
+        if (factory == null) {
+            defaultBastionFactory.compareAndSet(null, new DefaultBastionFactory());
+            factory = defaultBastionFactory.get();
         }
-        return defaultBastionFactory;
+        return factory;
     }
 
     /**
      * Designate a new factory instance as the "Default". This changes which factory is used when users call the
      * {@link Bastion#request(String, HttpRequest)} method allowing external systems to modify Bastion functionality. For example,
      * a test library could potentially register a new factory which will register event listeners for when Bastion calls
-     * start/end to display them in a UI.
+     * start/end to display them in a UI. The default factory is shared by every thread in the JVM: to change the factory
+     * used by a single test suite only, {@link #openScope(BastionFactory) open a scope} instead.
      *
      * @param defaultBastionFactory The factory instance to designate as "Default". Cannot be {@literal null}.
      */
     public static void setDefaultBastionFactory(BastionFactory defaultBastionFactory) {
         Objects.requireNonNull(defaultBastionFactory, "The default Bastion factory cannot be null");
-        BastionFactory.defaultBastionFactory = defaultBastionFactory;
+        BastionFactory.defaultBastionFactory.set(defaultBastionFactory);
+    }
+
+    /**
+     * Gets the {@link BastionFactory} which is used by the {@link Bastion} methods called on the current thread: the
+     * factory of the innermost {@link #openScope(BastionFactory) scope} opened by the current thread or, if the current
+     * thread has not opened any scope, the {@link #getDefaultBastionFactory() Default} factory.
+     *
+     * @return A non-null factory instance to use on the current thread
+     */
+    public static BastionFactory getCurrentBastionFactory() {
+        Scope scope = currentScope.get();
+        return (scope == null) ? getDefaultBastionFactory() : scope.factory;
+    }
+
+    /**
+     * Opens a scope in which the given factory is used, instead of the {@link #getDefaultBastionFactory() Default}
+     * factory, by the {@link Bastion} methods called on the current thread. Scopes only apply to the thread which opened
+     * them, so test suites running concurrently on different threads can each use their own factory. Scopes can be
+     * nested and must be closed, on the thread which opened them, in the reverse order they were opened, which is most
+     * easily achieved using a try-with-resources statement:
+     * <pre>{@code
+     * try (BastionFactory.Scope scope = BastionFactory.openScope(myFactory)) {
+     *     Bastion.request("Get Nigiri", GeneralRequest.get("http://localhost:9876/nigiri")).call();
+     * }
+     * }</pre>
+     *
+     * @param factory The non-{@literal null} factory to use on the current thread until the scope is closed
+     * @return The opened scope, which must be closed to restore the factory which was used before it was opened
+     */
+    public static Scope openScope(BastionFactory factory) {
+        Objects.requireNonNull(factory, "The scoped Bastion factory cannot be null");
+        Scope scope = new Scope(factory, currentScope.get());
+        currentScope.set(scope);
+        return scope;
+    }
+
+    /**
+     * A {@link BastionFactory} which is used on the thread which opened it, until it is closed.
+     *
+     * @see #openScope(BastionFactory)
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final BastionFactory factory;
+        private final Scope enclosingScope;
+        private final Thread owner = Thread.currentThread();
+        private boolean closed = false;
+
+        private Scope(BastionFactory factory, Scope enclosingScope) {
+            this.factory = factory;
+            this.enclosingScope = enclosingScope;
+        }
+
+        /**
+         * @return The factory used on the thread which opened this scope
+         */
+        public BastionFactory getFactory() {
+            return factory;
+        }
+
+        /**
+         * Closes this scope, so that the thread which opened it goes back to using the factory which it used before.
+         * Closing a scope which is already closed has no effect.
+         *
+         * @throws IllegalStateException If this scope is closed on a thread other than the one which opened it, or
+         *                               before the scopes opened inside it are closed
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            if ((Thread.currentThread() != owner) || (currentScope.get() != this)) {
+                throw new IllegalStateException("Bastion factory scopes must be closed on the thread which opened them, in the reverse order they were opened");
+            }
+            closed = true;
+            if (enclosingScope == null) {
+                currentScope.remove();
+            } else {
+                currentScope.set(enclosingScope);
+            }
+        }
     }
 
     private boolean suppressAssertions = false;
+    private HttpTransport httpTransport = new UnirestHttpTransport();
+    private Executor callExecutor = null;
+    private volatile ResponseDecoderRegistry modelConverters;
 
     /**
      * Construct and initialise a new instance of the {@link BastionBuilderImpl} builder. By default, the returned builder
@@ -58,10 +167,41 @@ public abstract class BastionFactory {
     public BastionBuilder<Object> getBastion(String message, HttpRequest request) {
         BastionBuilderImpl<Object> bastion = new BastionBuilderImpl<>(message, request);
         bastion.setSuppressAssertions(suppressAssertions);
+        bastion.setHttpTransport(httpTransport);
+        if (callExecutor != null) {
+            bastion.setCallExecutor(callExecutor);
+        }
+        bastion.setModelConverters(getModelConverters());
         prepareBastion(bastion);
         return bastion;
     }
 
+    /**
+     * Registers the {@link ResponseDecoder model converters} which the {@link BastionBuilderImpl} objects returned by this
+     * factory use to decode responses. This method is called once, when the first builder is created, and the registered
+     * model converters are shared by all the builders returned by this factory. By default, no model converters are
+     * registered.
+     *
+     * @param registrar The registrar to register the model converters with
+     */
+    protected void registerModelConverters(ResponseDecodersRegistrar registrar) {
+    }
+
+    private ResponseDecoderRegistry getModelConverters() {
+        ResponseDecoderRegistry registry = modelConverters;
+        if (registry == null) {
+            synchronized (this) {
+                registry = modelConverters;
+                if (registry == null) {
+                    registry = new ResponseDecoderRegistry();
+                    registerModelConverters(registry);
+                    modelConverters = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
     /**
      * Configures whether {@link BastionBuilderImpl} objects returned by this factory should be configured to suppress assertions or
      * not. When set to suppress assertions, Bastion will execute the HTTP request as normal as well as any callbacks provided
@@ -73,6 +213,83 @@ public abstract class BastionFactory {
         this.suppressAssertions = suppressAssertions;
     }
 
+    /**
+     * Configures which {@link HttpTransport} the {@link BastionBuilderImpl} objects returned by this factory will use to
+     * send their HTTP requests. The same transport instance is shared by all the builders returned by this factory.
+     * By default, the {@link UnirestHttpTransport} is used.
+     *
+     * @param httpTransport A non-{@literal null} transport to send HTTP requests with
+     */
+    public void setHttpTransport(HttpTransport httpTransport) {
+        Objects.requireNonNull(httpTransport);
+        this.httpTransport = httpTransport;
+    }
+
+    /**
+     * Configures the {@link BastionBuilderImpl} objects returned by this factory to send their HTTP requests using an
+     * {@link ApacheHttpClientTransport} backed by a connection pool with the given settings. The transport keeps counters
+     * of leased, reused and newly opened connections which are published to listeners, after every call, using the
+     * {@link rocks.bastion.core.event.BastionListener#connectionPoolUpdated(rocks.bastion.core.event.BastionConnectionPoolEvent)}
+     * event.
+     *
+     * @param poolSettings A non-{@literal null} configuration for the connection pool
+     * @return The transport which was created and configured on this factory
+     */
+    public ApacheHttpClientTransport useConnectionPool(ConnectionPoolSettings poolSettings) {
+        ApacheHttpClientTransport transport = new ApacheHttpClientTransport(poolSettings);
+        setHttpTransport(transport);
+        return transport;
+    }
+
+    /**
+     * Configures the {@link BastionBuilderImpl} objects returned by this factory to send their HTTP requests using an
+     * {@link OkHttpTransport} which speaks the given HTTP protocol versions. When using HTTP/2, the concurrent requests
+     * sent by asynchronous calls (such as those sent using {@link Bastion#all(rocks.bastion.core.builder.ExecuteRequestBuilder[])})
+     * are multiplexed over a single connection to each host.
+     *
+     * @param protocolMode A non-{@literal null} choice of HTTP protocol versions to use
+     * @return The transport which was created and configured on this factory
+     */
+    public OkHttpTransport useHttpProtocol(HttpProtocolMode protocolMode) {
+        OkHttpTransport transport = new OkHttpTransport(protocolMode);
+        setHttpTransport(transport);
+        return transport;
+    }
+
+    /**
+     * Configures the {@link Executor} which {@link BastionBuilderImpl} objects returned by this factory will use to run
+     * asynchronous calls (see {@link rocks.bastion.core.builder.ExecuteRequestBuilder#callAsync()}). When an executor is
+     * configured, each asynchronous call runs the complete blocking {@link rocks.bastion.core.builder.ExecuteRequestBuilder#call()}
+     * on one of the executor's threads. When no executor is configured (the default), asynchronous calls use the non-blocking
+     * support of the configured {@link HttpTransport} instead.
+     *
+     * @param callExecutor A non-{@literal null} executor to run Bastion calls on
+     */
+    public void setCallExecutor(Executor callExecutor) {
+        Objects.requireNonNull(callExecutor);
+        this.callExecutor = callExecutor;
+    }
+
+    /**
+     * Configures the {@link BastionBuilderImpl} objects returned by this factory to run each asynchronous call on its own
+     * thread. This is useful when using a blocking {@link HttpTransport} to send many independent requests at once, such
+     * as with the {@link Bastion#all(rocks.bastion.core.builder.ExecuteRequestBuilder[])} method, because the number of
+     * requests in flight is not limited by the size of a thread pool. Threads are reused when they become idle and never
+     * prevent the JVM from exiting.
+     *
+     * @return The executor which was created and configured on this factory
+     */
+    public ExecutorService useThreadPerCallExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "bastion-call-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        setCallExecutor(executor);
+        return executor;
+    }
+
     /**
      * Configures the specified instance of the {@link BastionBuilderImpl} builder. Factory subclasses must override this method to
      * configure the builder for use with external systems/libraries. An implementation will typically register event listeners
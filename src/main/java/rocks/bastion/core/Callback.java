@@ -12,7 +12,15 @@ public interface Callback<M> {
     /**
      * The empty callback which does nothing.
      */
-    Callback<?> NO_OPERATION_CALLBACK = (statusCode, response, context) -> {
+    Callback<?> NO_OPERATION_CALLBACK = new Callback<Object>() {
+        @Override
+        public void execute(int statusCode, ModelResponse<?> response, Object model) {
+        }
+
+        @Override
+        public boolean isModelRequired() {
+            return false;
+        }
     };
 
     /**
@@ -32,7 +40,21 @@ public interface Callback<M> {
      * @param statusCode The <a href="http://www.restapitutorial.com/httpstatuscodes.html">HTTP status code</a> received
      *                   by the API endpoint.
      * @param response   The HTTP response information received from the API (including HTTP headers, etc.)
-     * @param model      The bound model which was extracted from the received HTTP response
+     * @param model      The bound model which was extracted from the received HTTP response, or {@literal null} if this
+     *                   callback does not {@link #isModelRequired() require the model}
+     * @throws AssertionError Thrown if the callback requests the model using {@link ModelResponse#getModel()} and the
+     *                        response cannot be decoded into the bound model type
      */
     void execute(int statusCode, ModelResponse<? extends M> response, M model);
+
+    /**
+     * Indicates whether this callback uses the {@code model} parameter given to {@link #execute(int, ModelResponse, Object)}.
+     * If not, Bastion passes a {@literal null} model instead of decoding the response for this callback. The model can
+     * still be decoded on demand using {@link ModelResponse#getModel()}.
+     *
+     * @return {@literal true} if the model should be decoded before executing this callback; {@literal false}, otherwise.
+     */
+    default boolean isModelRequired() {
+        return true;
+    }
 }
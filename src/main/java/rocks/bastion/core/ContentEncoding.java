@@ -0,0 +1,103 @@
+package rocks.bastion.core;
+
+import org.brotli.dec.BrotliInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The HTTP content-codings which Bastion can negotiate with the remote server using the {@code Accept-Encoding} request
+ * header and decode when reading the response body. Decoding is done while the body is being read so a compressed body is
+ * never held in memory in its entirety.
+ */
+public enum ContentEncoding {
+
+    GZIP("gzip") {
+        @Override
+        public InputStream decode(InputStream encodedContent) throws IOException {
+            return new GZIPInputStream(encodedContent);
+        }
+    },
+
+    DEFLATE("deflate") {
+        @Override
+        public InputStream decode(InputStream encodedContent) throws IOException {
+            // The "deflate" coding should be zlib-wrapped but some servers send raw deflate data instead: detect which
+            // one we received by checking for a valid zlib header.
+            PushbackInputStream content = new PushbackInputStream(encodedContent, 2);
+            int firstByte = content.read();
+            int secondByte = content.read();
+            if (secondByte != -1) {
+                content.unread(secondByte);
+            }
+            if (firstByte != -1) {
+                content.unread(firstByte);
+            }
+            boolean zlibWrapped = (firstByte != -1) && (secondByte != -1) && ((firstByte & 0x0F) == 8) && ((((firstByte << 8) | secondByte) % 31) == 0);
+            return new InflaterInputStream(content, new Inflater(!zlibWrapped));
+        }
+    },
+
+    BROTLI("br") {
+        @Override
+        public InputStream decode(InputStream encodedContent) throws IOException {
+            return new BrotliInputStream(encodedContent);
+        }
+    };
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * @return The name of this content-coding as it appears in the {@code Accept-Encoding} and {@code Content-Encoding}
+     * HTTP headers
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Wraps the given stream of encoded content with a stream which decodes the content as it is read.
+     *
+     * @param encodedContent The stream of encoded content
+     * @return A stream of decoded content
+     * @throws IOException if the encoded content cannot be decoded using this content-coding
+     */
+    public abstract InputStream decode(InputStream encodedContent) throws IOException;
+
+    /**
+     * Finds the content-coding with the given name, ignoring case.
+     *
+     * @param token The name of a content-coding, such as {@code gzip}
+     * @return The content-coding with the given name or an {@link Optional#empty() empty Optional} if Bastion cannot
+     * decode it
+     */
+    public static Optional<ContentEncoding> fromToken(String token) {
+        String trimmedToken = token.trim();
+        if (trimmedToken.equalsIgnoreCase("x-gzip")) {
+            return Optional.of(GZIP);
+        }
+        return Arrays.stream(values()).filter(encoding -> encoding.token.equalsIgnoreCase(trimmedToken)).findFirst();
+    }
+
+    /**
+     * Formats the given content-codings as the value of an {@code Accept-Encoding} header.
+     *
+     * @param encodings The content-codings to accept
+     * @return A comma-separated list of content-coding names
+     */
+    public static String toAcceptEncoding(Collection<ContentEncoding> encodings) {
+        return encodings.stream().map(ContentEncoding::getToken).collect(Collectors.joining(", "));
+    }
+}
@@ -1,5 +1,6 @@
 package rocks.bastion.core;
 
+import org.apache.http.entity.ContentType;
 import rocks.bastion.core.event.*;
 import rocks.bastion.core.model.JsonResponseDecoder;
 import rocks.bastion.core.model.ResponseDecoder;
@@ -50,12 +51,12 @@ public class DefaultBastionFactory extends BastionFactory implements BastionList
 
     @Override
     protected void prepareBastion(BastionBuilderImpl<?> bastion) {
-        registerModelConverters(bastion);
         bastion.registerListener(this);
     }
 
-    protected void registerModelConverters(ResponseDecodersRegistrar bastion) {
-        bastion.registerModelConverter(new JsonResponseDecoder());
-        bastion.registerModelConverter(new StringResponseDecoder());
+    @Override
+    protected void registerModelConverters(ResponseDecodersRegistrar registrar) {
+        registrar.registerModelConverter(new JsonResponseDecoder(), ContentType.APPLICATION_JSON.getMimeType());
+        registrar.registerModelConverter(new StringResponseDecoder());
     }
 }
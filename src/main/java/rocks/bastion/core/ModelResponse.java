@@ -1,25 +1,60 @@
 package rocks.bastion.core;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.entity.ContentType;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Represents an HTTP response which also has a response model object. The response model is bound from the content/body
  * of the HTTP response.
+ * <p>
+ * The response body can also be read as a {@link #getJsonTree() JSON tree}. The tree is parsed the first time it is
+ * requested and then shared by every consumer of the response, such as the JSON model decoder and the JSON assertions,
+ * so a response body is parsed at most once. A {@linkplain ModelResponse} which wraps another {@linkplain ModelResponse}
+ * shares the wrapped response's JSON tree.
+ * <p>
+ * The model of a response received by Bastion is decoded lazily, the first time {@link #getModel()} is called, and then
+ * remembered. Assertions and callbacks which do not need the model therefore never pay for decoding it.
  *
  * @param <MODEL> The model object type which was bound for this HTTP response.
  */
 public class ModelResponse<MODEL> implements Response {
 
+    private static final ObjectMapper JSON_OBJECT_MAPPER = new ObjectMapper();
+
     private Response response;
-    private MODEL model;
+    private LazyModel<MODEL> model;
+    private JsonTree jsonTree;
 
     public ModelResponse(Response response, MODEL model) {
+        this(response, new LazyModel<>(() -> model));
+    }
+
+    private ModelResponse(Response response, LazyModel<MODEL> model) {
         this.response = response;
         this.model = model;
+        jsonTree = (response instanceof ModelResponse) ? ((ModelResponse<?>) response).jsonTree : new JsonTree();
+    }
+
+    /**
+     * Creates a {@linkplain ModelResponse} whose model is only decoded, using the given decoder, when it is first needed.
+     *
+     * @param response     The HTTP response
+     * @param modelDecoder Decodes the model from the response. It is called at most once; if it throws, the same error is
+     *                     thrown every time the model is requested.
+     * @param <MODEL>      The model object type
+     * @return A response whose model is decoded lazily
+     */
+    static <MODEL> ModelResponse<MODEL> withLazyModel(Response response, Supplier<? extends MODEL> modelDecoder) {
+        Objects.requireNonNull(modelDecoder);
+        return new ModelResponse<>(response, new LazyModel<>(modelDecoder));
     }
 
     @Override
@@ -47,7 +82,86 @@ public class ModelResponse<MODEL> implements Response {
         return response.getBody();
     }
 
+    /**
+     * Gets the model bound from the response body, decoding it if this is the first time the model is requested.
+     *
+     * @return The model object
+     * @throws AssertionError Thrown if the response could not be decoded into the model type bound to the Bastion request
+     */
     public MODEL getModel() {
-        return model;
+        return model.get();
+    }
+
+    /**
+     * Gets the response body parsed as a JSON tree. The body is parsed on the first invocation of this method, regardless
+     * of the response's {@code Content-type}, and the same tree instance is returned by every later invocation. The
+     * returned tree is shared, so callers must not modify it.
+     *
+     * @return The JSON tree of the response body. This is {@literal null} if the response body is empty.
+     * @throws IOException Thrown if the response body is not valid JSON text. The same exception is thrown by every
+     *                     invocation of this method.
+     */
+    public JsonNode getJsonTree() throws IOException {
+        return jsonTree.get(response);
+    }
+
+    /**
+     * Lazily decodes and then remembers the model, or the decoding failure, of a response.
+     */
+    private static final class LazyModel<MODEL> {
+
+        private Supplier<? extends MODEL> decoder;
+        private MODEL model;
+        private RuntimeException exception;
+        private Error error;
+
+        private LazyModel(Supplier<? extends MODEL> decoder) {
+            this.decoder = decoder;
+        }
+
+        synchronized MODEL get() {
+            if (decoder != null) {
+                try {
+                    model = decoder.get();
+                } catch (RuntimeException decodingException) {
+                    exception = decodingException;
+                } catch (Error decodingError) {
+                    error = decodingError;
+                }
+                decoder = null;
+            }
+            if (exception != null) {
+                throw exception;
+            }
+            if (error != null) {
+                throw error;
+            }
+            return model;
+        }
+    }
+
+    /**
+     * Lazily parses and then remembers the JSON tree, or the parsing failure, of a response body.
+     */
+    private static final class JsonTree {
+
+        private boolean parsed;
+        private JsonNode tree;
+        private IOException failure;
+
+        synchronized JsonNode get(Response response) throws IOException {
+            if (!parsed) {
+                try (InputStream body = response.getBody()) {
+                    tree = JSON_OBJECT_MAPPER.readTree(body);
+                } catch (IOException exception) {
+                    failure = exception;
+                }
+                parsed = true;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return tree;
+        }
     }
 }
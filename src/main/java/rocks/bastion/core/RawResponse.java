@@ -1,32 +1,55 @@
 package rocks.bastion.core;
 
-import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
 import org.apache.http.entity.ContentType;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+/**
+ * A {@link Response} which retains the body read from the remote server so that it can be read again, any number of
+ * times, by the model decoders, assertions and callbacks. Small bodies are held in memory while large bodies are spilled
+ * to a temporary file and read back through a memory-mapped buffer, as configured by the {@link ResponseBufferSettings}
+ * given to the constructor.
+ * <p>
+ * If the body was compressed by the remote server, as declared by the {@code Content-Encoding} response header, the body
+ * is decoded while it is being read, using the matching {@link ContentEncoding}. The retained body, and the body returned
+ * by {@link #getBody()}, is always the decoded content. The number of bytes actually received over the wire is available
+ * using {@link #getWireBodySize()}. Bodies with a content-coding which Bastion does not know are retained as they were
+ * received.
+ */
 public class RawResponse implements Response {
 
     private int statusCode;
     private String statusText;
     private Collection<ApiHeader> headers;
-    private byte[] bodyContent;
+    private ReplayableBody bodyContent;
+    private long wireBodySize;
+    private volatile Optional<ContentType> contentType;
 
     public RawResponse(int statusCode, String statusText, Collection<ApiHeader> headers, InputStream body) {
+        this(statusCode, statusText, headers, body, new ResponseBufferSettings());
+    }
+
+    public RawResponse(int statusCode, String statusText, Collection<ApiHeader> headers, InputStream body, ResponseBufferSettings bufferSettings) {
         try {
             Objects.requireNonNull(statusCode);
             Objects.requireNonNull(statusText);
             Objects.requireNonNull(headers);
             Objects.requireNonNull(body);
+            Objects.requireNonNull(bufferSettings);
             this.statusCode = statusCode;
             this.statusText = statusText;
             this.headers = headers;
-            bodyContent = ByteStreams.toByteArray(body);
+            CountingInputStream wireBody = new CountingInputStream(body);
+            bodyContent = ReplayableBody.read(decode(wireBody), bufferSettings);
+            wireBodySize = wireBody.getCount();
         } catch (IOException e) {
             throw new RuntimeException("Error while reading the body input stream", e);
         }
@@ -34,7 +57,13 @@ public class RawResponse implements Response {
 
     @Override
     public Optional<ContentType> getContentType() {
-        return headers.stream().filter(header -> header.getName().equalsIgnoreCase("content-type")).findFirst().map(header -> ContentType.parse(header.getValue()));
+        // Parsed once, since every decoder and assertion asks for the content type.
+        Optional<ContentType> parsedContentType = contentType;
+        if (parsedContentType == null) {
+            parsedContentType = headers.stream().filter(header -> header.getName().equalsIgnoreCase("content-type")).findFirst().map(header -> ContentType.parse(header.getValue()));
+            contentType = parsedContentType;
+        }
+        return parsedContentType;
     }
 
     @Override
@@ -54,6 +83,61 @@ public class RawResponse implements Response {
 
     @Override
     public InputStream getBody() {
-        return new ByteArrayInputStream(bodyContent);
+        return bodyContent.openStream();
+    }
+
+    /**
+     * @return The size of the response body, in bytes, after decoding any content-coding applied by the remote server
+     */
+    public int getBodySize() {
+        return bodyContent.size();
+    }
+
+    /**
+     * @return {@literal true} if the response body was larger than the in-memory threshold and is being read from a
+     * memory-mapped temporary file
+     */
+    public boolean isBodySpilledToDisk() {
+        return bodyContent.isSpilledToDisk();
+    }
+
+    /**
+     * @return The size of the response body, in bytes, as it was received over the wire. This is smaller than
+     * {@link #getBodySize()} if the remote server compressed the body.
+     */
+    public long getWireBodySize() {
+        return wireBodySize;
+    }
+
+    private InputStream decode(InputStream wireBody) throws IOException {
+        List<ContentEncoding> encodings = new ArrayList<>();
+        for (ApiHeader header : headers) {
+            if (!header.getName().equalsIgnoreCase("content-encoding")) {
+                continue;
+            }
+            for (String token : header.getValue().split(",")) {
+                if (token.trim().isEmpty() || token.trim().equalsIgnoreCase("identity")) {
+                    continue;
+                }
+                Optional<ContentEncoding> encoding = ContentEncoding.fromToken(token);
+                if (!encoding.isPresent()) {
+                    return wireBody;
+                }
+                encodings.add(encoding.get());
+            }
+        }
+        // An empty body (eg. in reply to a HEAD request) has nothing to decode even if it declares a content-coding.
+        PushbackInputStream wireContent = new PushbackInputStream(wireBody, 1);
+        int firstByte = wireContent.read();
+        if (firstByte == -1) {
+            return wireContent;
+        }
+        wireContent.unread(firstByte);
+        // Content-codings are listed in the order in which they were applied so they are decoded in reverse order.
+        InputStream decodedBody = wireContent;
+        for (int i = encodings.size() - 1; i >= 0; i--) {
+            decodedBody = encodings.get(i).decode(decodedBody);
+        }
+        return decodedBody;
     }
 }
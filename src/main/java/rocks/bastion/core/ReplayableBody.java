@@ -0,0 +1,134 @@
+package rocks.bastion.core;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Retains a response body so that it can be read any number of times. Small bodies are held in a heap buffer while large
+ * bodies are spilled to a temporary file and memory-mapped, as configured by {@link ResponseBufferSettings}. Every call to
+ * {@link #openStream()} returns a new, independent stream positioned at the start of the body which reads from the same
+ * underlying buffer.
+ */
+final class ReplayableBody {
+
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final ByteBuffer content;
+    private final boolean spilledToDisk;
+
+    private ReplayableBody(ByteBuffer content, boolean spilledToDisk) {
+        this.content = content;
+        this.spilledToDisk = spilledToDisk;
+    }
+
+    static ReplayableBody read(InputStream body, ResponseBufferSettings settings) throws IOException {
+        ByteArrayOutputStream memoryContent = new ByteArrayOutputStream();
+        OutputStream destination = memoryContent;
+        File spillFile = null;
+        long size = 0;
+        try {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                size += read;
+                if (size > settings.getMaxRetainedSize()) {
+                    throw new IllegalStateException(String.format("The response body is larger than the maximum retained size of %d bytes",
+                            settings.getMaxRetainedSize()));
+                }
+                if (spillFile == null && size > settings.getInMemoryThreshold()) {
+                    spillFile = File.createTempFile("bastion-response-", ".body", settings.getTempDirectory().orElse(null));
+                    destination = new BufferedOutputStream(new FileOutputStream(spillFile));
+                    memoryContent.writeTo(destination);
+                    memoryContent = null;
+                }
+                destination.write(buffer, 0, read);
+            }
+            destination.close();
+            if (spillFile == null) {
+                return new ReplayableBody(ByteBuffer.wrap(memoryContent.toByteArray()), false);
+            }
+            try (FileChannel channel = new RandomAccessFile(spillFile, "r").getChannel()) {
+                return new ReplayableBody(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), true);
+            }
+        } finally {
+            destination.close();
+            deleteSpillFile(spillFile);
+        }
+    }
+
+    /**
+     * @return A new stream positioned at the start of the body
+     */
+    InputStream openStream() {
+        return new ByteBufferInputStream(content.duplicate());
+    }
+
+    /**
+     * @return The size of the body, in bytes
+     */
+    int size() {
+        return content.capacity();
+    }
+
+    /**
+     * @return {@literal true} if the body was larger than the in-memory threshold and was spilled to a temporary file
+     */
+    boolean isSpilledToDisk() {
+        return spilledToDisk;
+    }
+
+    private static void deleteSpillFile(File spillFile) {
+        // The mapping stays valid once the file is unlinked. Platforms which do not allow deleting mapped files will
+        // remove it when the JVM exits instead.
+        if (spillFile != null && !spillFile.delete()) {
+            spillFile.deleteOnExit();
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? (buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] destination, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(destination, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
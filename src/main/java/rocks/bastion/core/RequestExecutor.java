@@ -1,26 +1,42 @@
 package rocks.bastion.core;
 
-import com.mashape.unirest.http.HttpResponse;
-import com.mashape.unirest.http.Unirest;
-import com.mashape.unirest.http.exceptions.UnirestException;
-import com.mashape.unirest.request.HttpRequestWithBody;
+import rocks.bastion.core.transport.HttpTransport;
+import rocks.bastion.core.transport.UnirestHttpTransport;
 
-import java.io.InputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Responsible for executing a Bastion remote request built using the {@link BastionBuilderImpl} builder and prepare a response object.
+ * The executor resolves the request's route parameters, query parameters, headers and body and then hands over the prepared
+ * request to an {@link HttpTransport} which performs the actual HTTP call.
+ * <p>
+ * Unless the request already specifies an {@code Accept-Encoding} header, the executor asks the remote server to compress
+ * the response using any of the {@link ContentEncoding content-codings} accepted by the transport. Compressed responses
+ * are decoded transparently by the {@link RawResponse}.
  */
 public class RequestExecutor {
 
     private HttpRequest bastionHttpRequest;
-    private com.mashape.unirest.request.HttpRequest executableHttpRequest;
+    private HttpTransport transport;
 
     public RequestExecutor(HttpRequest bastionHttpRequest) {
+        this(bastionHttpRequest, new UnirestHttpTransport());
+    }
+
+    public RequestExecutor(HttpRequest bastionHttpRequest, HttpTransport transport) {
         Objects.requireNonNull(bastionHttpRequest);
+        Objects.requireNonNull(transport);
         this.bastionHttpRequest = bastionHttpRequest;
-        executableHttpRequest = identifyHttpRequest();
+        this.transport = transport;
     }
 
     /**
@@ -30,69 +46,81 @@ public class RequestExecutor {
      */
     public Response execute() {
         try {
-            applyHeaders();
-            applyQueryParameters();
-            applyRouteParameters();
-            applyBody();
-            HttpResponse<InputStream> httpResponse = performRequest();
-            return convertToRawResponse(httpResponse);
-        } catch (UnirestException exception) {
+            return transport.execute(bastionHttpRequest.method(), applyQueryParameters(applyRouteParameters(bastionHttpRequest.url())), applyHeaders(), applyBody());
+        } catch (IOException exception) {
             throw new IllegalStateException("Failed executing request", exception);
         }
     }
 
-    private com.mashape.unirest.request.HttpRequest identifyHttpRequest() {
-        switch (bastionHttpRequest.method().getValue()) {
-            case "GET":
-                return Unirest.get(bastionHttpRequest.url());
-            case "POST":
-                return Unirest.post(bastionHttpRequest.url());
-            case "PATCH":
-                return Unirest.patch(bastionHttpRequest.url());
-            case "DELETE":
-                return Unirest.delete(bastionHttpRequest.url());
-            case "PUT":
-                return Unirest.put(bastionHttpRequest.url());
-            case "OPTIONS":
-                return Unirest.options(bastionHttpRequest.url());
-            case "HEAD":
-                return Unirest.head(bastionHttpRequest.url());
-            default:
-                throw new UnsupportedOperationException(String.format("We cannot perform a request of type %s.", bastionHttpRequest.method().getValue()));
-        }
+    /**
+     * Executes the given HTTP request without blocking the calling thread. If the request cannot be performed, the returned
+     * future is completed exceptionally with the same exception that {@link #execute()} would throw.
+     *
+     * @return A future which will be completed with the HTTP response retrieved from the remote server.
+     */
+    public CompletableFuture<Response> executeAsync() {
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        transport.executeAsync(bastionHttpRequest.method(), applyQueryParameters(applyRouteParameters(bastionHttpRequest.url())), applyHeaders(), applyBody())
+                 .whenComplete((httpResponse, throwable) -> {
+                     if (throwable == null) {
+                         response.complete(httpResponse);
+                         return;
+                     }
+                     Throwable cause = (throwable instanceof CompletionException) && (throwable.getCause() != null) ? throwable.getCause() : throwable;
+                     if (cause instanceof IOException) {
+                         response.completeExceptionally(new IllegalStateException("Failed executing request", cause));
+                     } else {
+                         response.completeExceptionally(cause);
+                     }
+                 });
+        return response;
     }
 
-    private void applyHeaders() {
+    private Collection<ApiHeader> applyHeaders() {
+        Collection<ApiHeader> headers = new LinkedList<>();
         if (!bastionHttpRequest.headers().stream().anyMatch(header -> header.getName().equalsIgnoreCase("content-type")) && bastionHttpRequest.contentType().isPresent()) {
-            executableHttpRequest.header("Content-type", bastionHttpRequest.contentType().get().toString());
+            headers.add(new ApiHeader("Content-type", bastionHttpRequest.contentType().get().toString()));
         }
-        bastionHttpRequest.headers().stream().forEach(header -> executableHttpRequest.header(header.getName(), header.getValue()));
-    }
-
-    private void applyQueryParameters() {
-        bastionHttpRequest.queryParams().stream().forEach(queryParam -> executableHttpRequest.queryString(queryParam.getName(), queryParam.getValue()));
+        if (!bastionHttpRequest.headers().stream().anyMatch(header -> header.getName().equalsIgnoreCase("accept-encoding")) && !transport.getAcceptedContentEncodings().isEmpty()) {
+            headers.add(new ApiHeader("Accept-Encoding", ContentEncoding.toAcceptEncoding(transport.getAcceptedContentEncodings())));
+        }
+        headers.addAll(bastionHttpRequest.headers());
+        return headers;
     }
 
-    private void applyRouteParameters() {
-        bastionHttpRequest.routeParams().stream().forEach(routeParam -> executableHttpRequest.routeParam(routeParam.getName(), routeParam.getValue()));
+    private String applyQueryParameters(String url) {
+        StringBuilder urlWithQueryParameters = new StringBuilder(url);
+        bastionHttpRequest.queryParams().forEach(queryParam -> {
+            urlWithQueryParameters.append((urlWithQueryParameters.indexOf("?") == -1) ? '?' : '&');
+            urlWithQueryParameters.append(encode(queryParam.getName())).append('=').append(encode(queryParam.getValue()));
+        });
+        return urlWithQueryParameters.toString();
     }
 
-    private void applyBody() {
-        if (executableHttpRequest instanceof HttpRequestWithBody) {
-            ((HttpRequestWithBody) executableHttpRequest).body(bastionHttpRequest.body().toString());
+    private String applyRouteParameters(String url) {
+        String resolvedUrl = url;
+        for (RouteParam routeParam : bastionHttpRequest.routeParams()) {
+            Matcher matcher = Pattern.compile("\\{" + Pattern.quote(routeParam.getName()) + "\\}").matcher(resolvedUrl);
+            if (!matcher.find()) {
+                throw new IllegalStateException(String.format("Can't find route parameter name \"%s\" in the URL %s", routeParam.getName(), url));
+            }
+            resolvedUrl = matcher.replaceAll(Matcher.quoteReplacement(encode(routeParam.getValue()).replace("+", "%20")));
         }
+        return resolvedUrl;
     }
 
-    private HttpResponse<InputStream> performRequest() throws UnirestException {
-        return executableHttpRequest.asBinary();
+    private String applyBody() {
+        if (bastionHttpRequest.method().equals(HttpMethod.GET) || bastionHttpRequest.method().equals(HttpMethod.HEAD) || (bastionHttpRequest.body() == null)) {
+            return null;
+        }
+        return bastionHttpRequest.body().toString();
     }
 
-    private Response convertToRawResponse(HttpResponse<InputStream> httpResponse) {
-        return new RawResponse(httpResponse.getStatus(),
-                httpResponse.getStatusText(),
-                httpResponse.getHeaders().entrySet().stream().flatMap(header ->
-                        header.getValue().stream().map(headerValue ->
-                                new ApiHeader(header.getKey(), headerValue))).collect(Collectors.toList()),
-                httpResponse.getBody());
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, "UTF-8");
+        } catch (UnsupportedEncodingException exception) {
+            throw new IllegalStateException("UTF-8 encoding is not supported", exception);
+        }
     }
 }
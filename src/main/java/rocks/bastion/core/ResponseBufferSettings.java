@@ -0,0 +1,80 @@
+package rocks.bastion.core;
+
+import java.io.File;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Configures how a {@link RawResponse} retains the body it receives from the remote server so that it can be read again by
+ * the model decoders, the assertions and any callbacks. Bodies up to the {@link #getInMemoryThreshold() in-memory threshold}
+ * are held on the heap. Larger bodies are spilled to a temporary file which is read back through a memory-mapped buffer, so
+ * that very large responses do not fill up the heap of the test JVM. Bodies larger than the
+ * {@link #getMaxRetainedSize() maximum retained size} are rejected.
+ * <p>
+ * By default, bodies up to 1 MiB are held in memory, bodies up to 2 GiB (the largest file which can be mapped into a single
+ * buffer) are spilled to the system's default temporary directory.
+ * <p>
+ * These settings bound the memory used to retain a body only if the transport streams the body into the response. This is
+ * the case for every transport except for asynchronous requests sent using the
+ * {@link rocks.bastion.core.transport.UnirestHttpTransport}, whose underlying client receives the whole body into memory
+ * first: use the {@link rocks.bastion.core.transport.ApacheHttpClientTransport} or the
+ * {@link rocks.bastion.core.transport.OkHttpTransport} to receive large bodies asynchronously.
+ */
+public class ResponseBufferSettings {
+
+    private int inMemoryThreshold = 1024 * 1024;
+    private long maxRetainedSize = Integer.MAX_VALUE;
+    private File tempDirectory;
+
+    public int getInMemoryThreshold() {
+        return inMemoryThreshold;
+    }
+
+    /**
+     * Sets the largest body, in bytes, which is held on the heap. Larger bodies are spilled to a temporary file.
+     *
+     * @param inMemoryThreshold A non-negative number of bytes
+     * @return This object (for method chaining)
+     */
+    public ResponseBufferSettings setInMemoryThreshold(int inMemoryThreshold) {
+        if (inMemoryThreshold < 0) {
+            throw new IllegalArgumentException("The in-memory threshold cannot be negative");
+        }
+        this.inMemoryThreshold = inMemoryThreshold;
+        return this;
+    }
+
+    public long getMaxRetainedSize() {
+        return maxRetainedSize;
+    }
+
+    /**
+     * Sets the largest body, in bytes, which a response will retain. Receiving a larger body will fail the Bastion call.
+     *
+     * @param maxRetainedSize A positive number of bytes, no larger than {@link Integer#MAX_VALUE}
+     * @return This object (for method chaining)
+     */
+    public ResponseBufferSettings setMaxRetainedSize(long maxRetainedSize) {
+        if (maxRetainedSize <= 0 || maxRetainedSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The maximum retained size must be positive and no larger than " + Integer.MAX_VALUE + " bytes");
+        }
+        this.maxRetainedSize = maxRetainedSize;
+        return this;
+    }
+
+    public Optional<File> getTempDirectory() {
+        return Optional.ofNullable(tempDirectory);
+    }
+
+    /**
+     * Sets the directory in which large bodies are spilled. By default, the system's default temporary directory is used.
+     *
+     * @param tempDirectory A non-{@literal null} existing directory
+     * @return This object (for method chaining)
+     */
+    public ResponseBufferSettings setTempDirectory(File tempDirectory) {
+        Objects.requireNonNull(tempDirectory);
+        this.tempDirectory = tempDirectory;
+        return this;
+    }
+}
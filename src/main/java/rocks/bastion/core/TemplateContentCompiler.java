@@ -1,12 +1,20 @@
 package rocks.bastion.core;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.MustacheException.Context;
 import com.samskivert.mustache.Template;
+import rocks.bastion.core.resource.ResourceLoader;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 /**
  * An internal class which uses a templating engine (JMustache in this case) to provide templating functionality for Bastion.
@@ -16,9 +24,24 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>
  * See the <a href="https://mustache.github.io/mustache.5.html">Mustache man page</a> for an explaination of how to write Mustache
  * templates that can be interpreted by this class.
+ * <p>
+ * Compiled templates are kept in a bounded, process-wide cache so that rendering the same template many times, with
+ * different variable assignments, only compiles the template once. Templates given as source text are cached by their
+ * text while templates loaded using {@link #fromResource(String)} are cached by their resource source, so a cached
+ * resource is not even loaded again. When the cache is full, the least recently used templates are evicted. The cache's
+ * hit, miss and eviction counts are available using {@link #getTemplateCacheStats()}.
  */
 public class TemplateContentCompiler {
 
+    /**
+     * The maximum number of compiled templates kept in the cache unless changed using {@link #setTemplateCacheMaximumSize(long)}.
+     */
+    public static final long DEFAULT_TEMPLATE_CACHE_MAXIMUM_SIZE = 256;
+
+    private static final Mustache.Compiler COMPILER = getCompiler();
+
+    private static volatile Cache<Object, CompiledTemplate> templateCache = newTemplateCache(DEFAULT_TEMPLATE_CACHE_MAXIMUM_SIZE);
+
     private String template;
     private Template compiledTemplate;
     private Map<String, Object> variableAssignments;
@@ -30,10 +53,60 @@ public class TemplateContentCompiler {
      * @param template The Mustache template source text. Cannot be {@literal null}.
      */
     public TemplateContentCompiler(String template) {
+        Objects.requireNonNull(template);
+        setTemplate(getCachedTemplate(template, () -> new CompiledTemplate(template)));
+        variableAssignments = new ConcurrentHashMap<>();
+    }
+
+    private TemplateContentCompiler(CompiledTemplate template) {
         setTemplate(template);
         variableAssignments = new ConcurrentHashMap<>();
     }
 
+    /**
+     * Construct a new template compiler object for the Mustache template loaded from the given resource. The resource is
+     * loaded using a {@link ResourceLoader} and, once compiled, the template is cached by its resource source: subsequent
+     * calls with the same resource source reuse the compiled template without loading the resource again.
+     *
+     * @param resourceSource The resource URL to load the Mustache template from. Cannot be {@literal null}.
+     * @return A template compiler for the loaded template
+     * @throws rocks.bastion.core.resource.ResourceNotFoundException   Thrown if the specified resource does not exist
+     * @throws rocks.bastion.core.resource.UnreadableResourceException Thrown if the specified resource exists but cannot be read
+     */
+    public static TemplateContentCompiler fromResource(String resourceSource) {
+        Objects.requireNonNull(resourceSource);
+        return new TemplateContentCompiler(getCachedTemplate(new ResourceKey(resourceSource),
+                () -> new CompiledTemplate(new ResourceLoader(resourceSource).load())));
+    }
+
+    /**
+     * Returns the hit, miss and eviction counts of the cache of compiled templates, since the cache was created.
+     *
+     * @return A snapshot of the template cache's statistics
+     */
+    public static CacheStats getTemplateCacheStats() {
+        return templateCache.stats();
+    }
+
+    /**
+     * Replaces the cache of compiled templates with an empty cache which holds at most the given number of templates.
+     *
+     * @param maximumSize A positive maximum number of compiled templates to cache
+     */
+    public static void setTemplateCacheMaximumSize(long maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The template cache maximum size must be positive");
+        }
+        templateCache = newTemplateCache(maximumSize);
+    }
+
+    /**
+     * Removes all the compiled templates from the cache.
+     */
+    public static void clearTemplateCache() {
+        templateCache.invalidateAll();
+    }
+
     /**
      * Gets the currently set template source text. The template text is a Mustache template.
      *
@@ -87,15 +160,9 @@ public class TemplateContentCompiler {
         return resolveTemplate();
     }
 
-    /**
-     * Sets and compiles a new template written as a Mustache template.
-     *
-     * @param template The Mustache template source text. Cannot be {@literal null}.
-     */
-    private void setTemplate(String template) {
-        Objects.requireNonNull(template);
-        this.template = template;
-        compiledTemplate = compile();
+    private void setTemplate(CompiledTemplate template) {
+        this.template = template.source;
+        compiledTemplate = template.template;
     }
 
     private static Mustache.Compiler getCompiler() {
@@ -113,8 +180,53 @@ public class TemplateContentCompiler {
         }
     }
 
-    private Template compile() throws TemplateCompilationException {
-        return getCompiler().compile(template);
+    private static CompiledTemplate getCachedTemplate(Object key, Callable<CompiledTemplate> loader) {
+        try {
+            return templateCache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException exception) {
+            throw Throwables.propagate(exception.getCause());
+        }
+    }
+
+    private static Cache<Object, CompiledTemplate> newTemplateCache(long maximumSize) {
+        return CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    /**
+     * A Mustache template's source text together with its compiled form. Compiled templates are immutable and can be
+     * executed concurrently, so they are safely shared by all the compilers using the same template.
+     */
+    private static final class CompiledTemplate {
+
+        private final String source;
+        private final Template template;
+
+        private CompiledTemplate(String source) {
+            this.source = source;
+            template = COMPILER.compile(source);
+        }
+    }
+
+    /**
+     * Identifies a template loaded from a resource, so that it is never confused with a template given as source text.
+     */
+    private static final class ResourceKey {
+
+        private final String resourceSource;
+
+        private ResourceKey(String resourceSource) {
+            this.resourceSource = resourceSource;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return (other instanceof ResourceKey) && resourceSource.equals(((ResourceKey) other).resourceSource);
+        }
+
+        @Override
+        public int hashCode() {
+            return resourceSource.hashCode();
+        }
     }
 
 }
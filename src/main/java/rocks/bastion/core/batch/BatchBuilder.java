@@ -0,0 +1,230 @@
+package rocks.bastion.core.batch;
+
+import rocks.bastion.core.Assertions;
+import rocks.bastion.core.BastionFactory;
+import rocks.bastion.core.Callback;
+import rocks.bastion.core.HttpRequest;
+import rocks.bastion.core.ModelResponse;
+import rocks.bastion.core.builder.AssertionsBuilder;
+import rocks.bastion.core.builder.BastionBuilder;
+import rocks.bastion.core.builder.PostExecutionBuilder;
+import rocks.bastion.core.event.BastionEventPublisher;
+import rocks.bastion.core.event.FailureRecordingListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes many {@link HttpRequest HTTP requests} as a single batch. Every request in the batch goes through the same
+ * pipeline: its response is bound to the same model type, checked using the same {@link Assertions} and handed over to
+ * the same {@link Callback}. Each request is executed as a normal Bastion test built by a {@link BastionFactory}, so all
+ * the factory's configuration (transport, decoders, listeners, etc.) applies to the requests of a batch.
+ * <p>
+ * At most {@link #withConcurrency(int) a limited number} of requests are in flight at any one time. Unlike a plain
+ * Bastion test, a failing request does not stop the batch: the failure is recorded in the request's {@link BatchResult}
+ * and the remaining requests carry on. Use {@link BatchReport#assertAllSucceeded()} on the report returned by
+ * {@link #call()} to fail a test if any of the requests failed.
+ * <p>
+ * Batches are normally started using the {@link rocks.bastion.Bastion#batch(List)} method.
+ *
+ * @param <MODEL> The model type which responses are bound to
+ */
+public class BatchBuilder<MODEL> {
+
+    /**
+     * The maximum number of requests in flight at once used when {@link #withConcurrency(int)} is not called.
+     */
+    public static final int DEFAULT_CONCURRENCY = 16;
+
+    private BastionFactory bastionFactory;
+    private String message;
+    private List<HttpRequest> requests;
+    private Class<MODEL> modelType;
+    private Assertions<? super MODEL> assertions;
+    private Callback<? super MODEL> callback;
+    private int concurrency;
+    private CompletionOrder completionOrder;
+
+    public BatchBuilder(BastionFactory bastionFactory, String message, List<? extends HttpRequest> requests) {
+        Objects.requireNonNull(bastionFactory);
+        Objects.requireNonNull(message);
+        Objects.requireNonNull(requests);
+        requests.forEach(Objects::requireNonNull);
+        this.bastionFactory = bastionFactory;
+        this.message = message;
+        this.requests = new ArrayList<>(requests);
+        modelType = null;
+        assertions = Assertions.noAssertions();
+        callback = Callback.noCallback();
+        concurrency = DEFAULT_CONCURRENCY;
+        completionOrder = CompletionOrder.ORDERED;
+    }
+
+    /**
+     * Binds the responses of every request in the batch to the given model type.
+     *
+     * @param modelType The non-{@literal null} model type to bind responses to
+     * @param <T>       The model type to bind responses to
+     * @return This batch, now bound to the given model type (for method chaining)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BatchBuilder<T> bind(Class<T> modelType) {
+        Objects.requireNonNull(modelType);
+        BatchBuilder<T> castedBuilder = (BatchBuilder<T>) this;
+        castedBuilder.modelType = modelType;
+        return castedBuilder;
+    }
+
+    /**
+     * Sets the assertions which every response in the batch is checked against.
+     *
+     * @param assertions The non-{@literal null} assertions to apply to every response
+     * @return This batch (for method chaining)
+     */
+    public BatchBuilder<MODEL> withAssertions(Assertions<? super MODEL> assertions) {
+        Objects.requireNonNull(assertions);
+        this.assertions = assertions;
+        return this;
+    }
+
+    /**
+     * Sets the callback which is executed for every response in the batch which passes its assertions. The callback is
+     * never executed concurrently by the same batch, so it does not need to be thread-safe, and it receives the
+     * responses in the batch's {@link #withCompletionOrder(CompletionOrder) completion order}.
+     *
+     * @param callback The non-{@literal null} callback to execute for every response
+     * @return This batch (for method chaining)
+     */
+    public BatchBuilder<MODEL> thenDo(Callback<? super MODEL> callback) {
+        Objects.requireNonNull(callback);
+        this.callback = callback;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of requests which this batch keeps in flight at the same time.
+     *
+     * @param concurrency A positive number of requests
+     * @return This batch (for method chaining)
+     */
+    public BatchBuilder<MODEL> withConcurrency(int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("The batch concurrency must be positive");
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Sets the order in which results are handed to the callback and listed in the report. By default, results are
+     * {@link CompletionOrder#ORDERED ordered} the same as the requests given to the batch.
+     *
+     * @param completionOrder The non-{@literal null} order to deliver results in
+     * @return This batch (for method chaining)
+     */
+    public BatchBuilder<MODEL> withCompletionOrder(CompletionOrder completionOrder) {
+        Objects.requireNonNull(completionOrder);
+        this.completionOrder = completionOrder;
+        return this;
+    }
+
+    /**
+     * Executes every request in the batch and waits for all of them to complete.
+     *
+     * @return The report listing the result of every request in the batch
+     */
+    public BatchReport<MODEL> call() {
+        long batchStartTime = System.nanoTime();
+        ResultCollector collector = new ResultCollector();
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<CompletableFuture<?>> pendingRequests = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            inFlight.acquireUninterruptibly();
+            int requestIndex = index;
+            long startTime = System.nanoTime();
+            FailureRecordingListener failureListener = new FailureRecordingListener();
+            pendingRequests.add(startRequest(requestIndex, failureListener).handle((executedTest, throwable) -> {
+                inFlight.release();
+                Throwable failure = (throwable instanceof CompletionException) && (throwable.getCause() != null) ? throwable.getCause() : throwable;
+                if (failure == null) {
+                    failure = failureListener.getFailure().orElse(null);
+                }
+                ModelResponse<? extends MODEL> response = (executedTest == null) ? null : executedTest.getResponse();
+                collector.completed(new BatchResult<>(requestIndex, requests.get(requestIndex), response, failure, System.nanoTime() - startTime));
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(pendingRequests.toArray(new CompletableFuture<?>[pendingRequests.size()])).join();
+        return new BatchReport<>(collector.deliveredResults, System.nanoTime() - batchStartTime);
+    }
+
+    private CompletableFuture<? extends PostExecutionBuilder<? extends MODEL>> startRequest(int index, FailureRecordingListener failureListener) {
+        try {
+            BastionBuilder<Object> bastion = bastionFactory.getBastion(describeRequest(index), requests.get(index));
+            if (bastion instanceof BastionEventPublisher) {
+                // Factories whose listeners do not rethrow failures would otherwise let failing requests pass silently.
+                ((BastionEventPublisher) bastion).registerListener(failureListener);
+            }
+            return bindModel(bastion).withAssertions(assertions).callAsync();
+        } catch (Throwable t) {
+            CompletableFuture<PostExecutionBuilder<? extends MODEL>> failedRequest = new CompletableFuture<>();
+            failedRequest.completeExceptionally(t);
+            return failedRequest;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private AssertionsBuilder<? extends MODEL> bindModel(BastionBuilder<Object> bastion) {
+        if (modelType == null) {
+            return (AssertionsBuilder<? extends MODEL>) bastion;
+        }
+        return bastion.bind(modelType);
+    }
+
+    private String describeRequest(int index) {
+        String requestNumber = String.format("#%d of %d", index + 1, requests.size());
+        return message.isEmpty() ? requestNumber : (message + " " + requestNumber);
+    }
+
+    /**
+     * Receives the results of the batch's requests as they complete, executes the batch's callback on each one and records
+     * them in the batch's completion order. Results are delivered one at a time so the callback never runs concurrently.
+     */
+    private class ResultCollector {
+
+        private final List<BatchResult<MODEL>> deliveredResults = new ArrayList<>(requests.size());
+        private final List<BatchResult<MODEL>> heldBackResults = new ArrayList<>(requests.size());
+
+        private synchronized void completed(BatchResult<MODEL> result) {
+            if (completionOrder == CompletionOrder.UNORDERED) {
+                deliver(result);
+                return;
+            }
+            while (heldBackResults.size() <= result.getIndex()) {
+                heldBackResults.add(null);
+            }
+            heldBackResults.set(result.getIndex(), result);
+            while ((deliveredResults.size() < heldBackResults.size()) && (heldBackResults.get(deliveredResults.size()) != null)) {
+                deliver(heldBackResults.get(deliveredResults.size()));
+            }
+        }
+
+        private void deliver(BatchResult<MODEL> result) {
+            BatchResult<MODEL> deliveredResult = result;
+            if (result.isSuccessful() && result.getResponse().isPresent()) {
+                ModelResponse<? extends MODEL> response = result.getResponse().get();
+                try {
+                    callback.execute(response.getStatusCode(), response, callback.isModelRequired() ? response.getModel() : null);
+                } catch (Throwable t) {
+                    deliveredResult = new BatchResult<>(result.getIndex(), result.getRequest(), response, t, result.getDuration(TimeUnit.NANOSECONDS));
+                }
+            }
+            deliveredResults.add(deliveredResult);
+        }
+    }
+}
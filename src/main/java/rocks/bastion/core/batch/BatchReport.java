@@ -0,0 +1,89 @@
+package rocks.bastion.core.batch;
+
+import rocks.bastion.core.ModelResponse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The aggregated outcome of a batch of requests executed using a {@link BatchBuilder}. The report lists the
+ * {@link BatchResult result} of every request, in the {@link CompletionOrder} configured on the batch, and summarises how
+ * many requests succeeded and failed and how long the whole batch took.
+ *
+ * @param <MODEL> The model type which the batch bound responses to
+ */
+public class BatchReport<MODEL> {
+
+    private List<BatchResult<MODEL>> results;
+    private long elapsedNanos;
+
+    BatchReport(List<BatchResult<MODEL>> results, long elapsedNanos) {
+        this.results = Collections.unmodifiableList(results);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return The result of every request in the batch
+     */
+    public List<BatchResult<MODEL>> getResults() {
+        return results;
+    }
+
+    /**
+     * @return The responses received for the requests in the batch, in the same order as {@link #getResults()}. Requests
+     * for which no response is available are skipped.
+     */
+    public List<ModelResponse<? extends MODEL>> getResponses() {
+        return results.stream().map(BatchResult::getResponse).filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
+    }
+
+    /**
+     * @return The results of the requests which did not succeed
+     */
+    public List<BatchResult<MODEL>> getFailures() {
+        return results.stream().filter(result -> !result.isSuccessful()).collect(Collectors.toList());
+    }
+
+    public int getTotalCount() {
+        return results.size();
+    }
+
+    public int getSuccessCount() {
+        return getTotalCount() - getFailureCount();
+    }
+
+    public int getFailureCount() {
+        return (int) results.stream().filter(result -> !result.isSuccessful()).count();
+    }
+
+    /**
+     * @param unit The time unit to return the duration in
+     * @return The wall-clock time taken to execute the whole batch
+     */
+    public long getElapsed(TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Fails with an {@link AssertionError} if any of the requests in the batch did not succeed. The error's message
+     * summarises the batch and its cause is the failure of the first unsuccessful request listed in this report.
+     */
+    public void assertAllSucceeded() {
+        List<BatchResult<MODEL>> failures = getFailures();
+        if (!failures.isEmpty()) {
+            AssertionError error = new AssertionError(String.format("%d of %d batch requests failed (first failure: request #%d)",
+                    failures.size(), getTotalCount(), failures.get(0).getIndex() + 1));
+            failures.get(0).getFailure().ifPresent(error::initCause);
+            throw error;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("total=%d, succeeded=%d, failed=%d, elapsed=%dms", getTotalCount(), getSuccessCount(), getFailureCount(),
+                getElapsed(TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,72 @@
+package rocks.bastion.core.batch;
+
+import rocks.bastion.core.HttpRequest;
+import rocks.bastion.core.ModelResponse;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outcome of a single request executed as part of a batch. A result holds the response received for the request,
+ * if any, and the failure which occurred while sending the request, decoding its response, running its assertions or
+ * running the batch's callback, if any.
+ *
+ * @param <MODEL> The model type which the batch bound responses to
+ */
+public class BatchResult<MODEL> {
+
+    private int index;
+    private HttpRequest request;
+    private ModelResponse<? extends MODEL> response;
+    private Throwable failure;
+    private long durationNanos;
+
+    BatchResult(int index, HttpRequest request, ModelResponse<? extends MODEL> response, Throwable failure, long durationNanos) {
+        this.index = index;
+        this.request = request;
+        this.response = response;
+        this.failure = failure;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * @return The zero-based position of this result's request in the list of requests given to the batch
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public HttpRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * @return The response received for this result's request, together with its decoded model. The response is not
+     * available if the request could not be sent or its response could not be decoded.
+     */
+    public Optional<ModelResponse<? extends MODEL>> getResponse() {
+        return Optional.ofNullable(response);
+    }
+
+    /**
+     * @return The assertion failure or error which occurred for this result's request, if any
+     */
+    public Optional<Throwable> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    /**
+     * @return {@literal true} if the request was sent, its response decoded and it passed its assertions and callback
+     */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * @param unit The time unit to return the duration in
+     * @return The time taken from sending this result's request up to completing its assertions and callback
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
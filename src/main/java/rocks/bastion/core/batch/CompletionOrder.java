@@ -0,0 +1,21 @@
+package rocks.bastion.core.batch;
+
+/**
+ * Determines the order in which the requests of a batch are handed over to the batch's {@link rocks.bastion.core.Callback}
+ * and listed in the {@link BatchReport}.
+ */
+public enum CompletionOrder {
+
+    /**
+     * Results are delivered in the same order the requests were given to the batch. A result which completes early is held
+     * back until all the requests before it have completed.
+     */
+    ORDERED,
+
+    /**
+     * Results are delivered as soon as each request completes, which is not necessarily the order the requests were given
+     * to the batch.
+     */
+    UNORDERED
+
+}
@@ -29,6 +29,12 @@ public interface BindBuilder {
      * The bound type will be used further on when the user specifies {@link AssertionsBuilder#withAssertions(Assertions) assertions},
      * {@link CallbackBuilder#thenDo(Callback) callbacks} or outright retrieves the {@link PostExecutionBuilder#getModel() decoded response model}
      * as the bound model (of the correct type) will be provided by Bastion.
+     * <br><br>
+     * The response is only decoded into the bound type when the model is needed. Assertions which do not
+     * {@link Assertions#isModelRequired() require the model}, such as the {@link rocks.bastion.core.json.JsonResponseAssertions},
+     * do not cause the response to be decoded, so a call whose response cannot be decoded into the bound type does not fail
+     * if it only uses such assertions. The failure is raised when the model is first requested instead, such as using
+     * {@link PostExecutionBuilder#getModel()}.
      *
      * @param modelType A non-{@literal null} class type which will be used when constructing the response model
      * @param <MODEL>   The type of model to bind this builder to
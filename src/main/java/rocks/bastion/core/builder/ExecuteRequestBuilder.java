@@ -1,12 +1,16 @@
 package rocks.bastion.core.builder;
 
+import rocks.bastion.core.event.BastionEventPublisher;
 import rocks.bastion.junit.BastionRunner;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Specifies the operations available on a Bastion test builder before it has been executed.
  * At this point, a user can only perform the following operation:
  * <ul>
  * <li>{@link #call()}: Starts the Bastion test by executing the HTTP request.</li>
+ * <li>{@link #callAsync()}: Starts the Bastion test by executing the HTTP request without waiting for the response.</li>
  * </ul>
  * After using the {@linkplain #call()} method, the user may obtain the response, for further use in the ongoing test, using
  * methods defined in the {@link PostExecutionBuilder} interface.
@@ -27,4 +31,20 @@ public interface ExecuteRequestBuilder<MODEL> {
      */
     PostExecutionBuilder<? extends MODEL> call();
 
+    /**
+     * Instructs Bastion to perform the HTTP request without blocking the calling thread. This method returns immediately
+     * and, once the response is received, Bastion will decode the response into a model, perform any assertions and execute
+     * the registered callback, just like the {@link #call()} method. This allows a single test thread to keep many
+     * Bastion requests in flight at the same time.
+     * <br><br>
+     * Listeners registered on the {@link BastionEventPublisher} are notified about the call in exactly the same way as
+     * for {@link #call()}, although the notifications, except for the "call started" notification, may happen on a different
+     * thread. If a listener throws an exception (for example, when the assertions fail), the returned future is completed
+     * exceptionally with that exception.
+     *
+     * @return A future which is completed with a Bastion fluent-builder which allows you to retrieve the HTTP response
+     * and the decoded model
+     */
+    CompletableFuture<? extends PostExecutionBuilder<? extends MODEL>> callAsync();
+
 }
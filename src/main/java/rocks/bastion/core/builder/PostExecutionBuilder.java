@@ -20,8 +20,14 @@ public interface PostExecutionBuilder<MODEL> {
      * using {@link BindBuilder#bind(Class)}, then the model given by this method
      * will be of the specified type. Otherwise, the type of model will be determined by Bastion itself depending on the content-type
      * of the response.
+     * <br><br>
+     * The model is decoded the first time it is needed, which may be by this method if neither the assertions nor the
+     * callback of the test required it. A response which cannot be decoded into the bound type then fails here, rather
+     * than when the test was called. Such a failure is only thrown by this method: the test was already reported to the
+     * Bastion listeners as finished, so it is not reported to them again.
      *
      * @return The decoded model object
+     * @throws AssertionError Thrown if the response could not be decoded into the model type bound to this builder
      */
     MODEL getModel();
 
@@ -0,0 +1,22 @@
+package rocks.bastion.core.event;
+
+import rocks.bastion.core.Response;
+import rocks.bastion.core.transport.ConnectionPoolStatistics;
+
+/**
+ * Event fired after a Bastion request was sent using a transport which pools its connections. Contains a snapshot of the
+ * transport's connection pool counters taken right after the request completed.
+ */
+public class BastionConnectionPoolEvent extends BastionEvent {
+
+    private ConnectionPoolStatistics statistics;
+
+    public BastionConnectionPoolEvent(String requestMessage, Response response, ConnectionPoolStatistics statistics) {
+        super(requestMessage, response);
+        this.statistics = statistics;
+    }
+
+    public ConnectionPoolStatistics getStatistics() {
+        return statistics;
+    }
+}
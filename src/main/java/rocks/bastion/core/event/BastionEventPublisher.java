@@ -15,4 +15,14 @@ public interface BastionEventPublisher {
 
     void notifyListenersCallFinished(BastionFinishedEvent event);
 
+    /**
+     * Notifies the registered listeners of the connection pool counters of the transport which sent a call. The default
+     * implementation does not notify any listener, so publishers which were written before this event was introduced
+     * do not need to implement it.
+     *
+     * @param event Event object containing the connection pool counters after the Bastion request was sent
+     */
+    default void notifyListenersConnectionPoolUpdated(BastionConnectionPoolEvent event) {
+    }
+
 }
@@ -36,4 +36,14 @@ public interface BastionListener {
      */
     void callError(BastionErrorEvent event);
 
+    /**
+     * Event fired after a call was sent using a transport which pools its connections. The event contains the transport's
+     * connection pool counters, such as how many connections were reused and how many had to be opened. The default
+     * implementation ignores the event.
+     *
+     * @param event Event object containing the connection pool counters after the Bastion request was sent
+     */
+    default void connectionPoolUpdated(BastionConnectionPoolEvent event) {
+    }
+
 }
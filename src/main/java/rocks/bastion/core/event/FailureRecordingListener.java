@@ -0,0 +1,40 @@
+package rocks.bastion.core.event;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A listener which records the first assertion failure or error reported for a single Bastion request. Components which
+ * run many Bastion requests on behalf of the user, such as batches and load tests, register one of these listeners on
+ * every request so that a failure is noticed even when the {@link rocks.bastion.core.BastionFactory} was not configured
+ * with a listener which rethrows failures.
+ */
+public class FailureRecordingListener implements BastionListener {
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    @Override
+    public void callStarted(BastionStartedEvent event) {
+    }
+
+    @Override
+    public void callFinished(BastionFinishedEvent event) {
+    }
+
+    @Override
+    public void callFailed(BastionFailureEvent event) {
+        failure.compareAndSet(null, event.getAssertionError());
+    }
+
+    @Override
+    public void callError(BastionErrorEvent event) {
+        failure.compareAndSet(null, event.getThrowable());
+    }
+
+    /**
+     * @return The first assertion failure or error reported to this listener, if any
+     */
+    public Optional<Throwable> getFailure() {
+        return Optional.ofNullable(failure.get());
+    }
+}
@@ -0,0 +1,248 @@
+package rocks.bastion.core.flow;
+
+import com.google.common.base.Throwables;
+import rocks.bastion.core.builder.ExecuteRequestBuilder;
+import rocks.bastion.core.builder.PostExecutionBuilder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Executes a flow of Bastion tests, called <i>steps</i>, which depend on each other's results. Each step is declared with
+ * the names of the steps whose responses it needs, such as a step which gets a resource using the ID returned by the
+ * step which created it. The steps form a directed acyclic graph: a step is started as soon as all of its dependencies
+ * have completed and steps which do not depend on each other run concurrently. The time taken by a flow is therefore
+ * that of its longest chain of dependent steps, rather than the sum of all its steps.
+ * </p>
+ * <p>
+ * Steps are started using {@link ExecuteRequestBuilder#callAsync()} so, as with {@link rocks.bastion.Bastion#all(ExecuteRequestBuilder[])},
+ * the configuration of the {@link rocks.bastion.core.BastionFactory} determines how the HTTP requests are sent
+ * concurrently. The Bastion test of every step is, however, prepared on the thread which calls the flow, so steps use the
+ * same factory, and are reported against the same test, as tests prepared directly by the test method.
+ * </p>
+ * <p>
+ * A failing step does not stop the flow: the steps which depend on it are skipped, while the steps which do not depend on
+ * it carry on. Once every step has either completed or been skipped, {@link #call()} throws the failure of the first step
+ * (in the order the steps were declared) which failed.
+ * </p>
+ * <p>
+ * Flows are normally started using the {@link rocks.bastion.Bastion#flow(String)} method.
+ * </p>
+ */
+public class FlowBuilder {
+
+    private String message;
+    private Map<String, Step> steps;
+
+    public FlowBuilder(String message) {
+        Objects.requireNonNull(message);
+        this.message = message;
+        steps = new LinkedHashMap<>();
+    }
+
+    /**
+     * Declares a step which does not depend on any other step.
+     *
+     * @param name    A non-{@literal null} name for the step, unique within this flow, which other steps use to depend on it
+     * @param request Prepares the Bastion test to execute for this step, using the {@link rocks.bastion.Bastion#request}
+     *                method, without calling it
+     * @return This flow (for method chaining)
+     */
+    public FlowBuilder step(String name, Supplier<? extends ExecuteRequestBuilder<?>> request) {
+        Objects.requireNonNull(request);
+        return step(name, results -> request.get());
+    }
+
+    /**
+     * Declares a step which depends on the results of other steps. The step is only started once all the steps it depends
+     * on have completed successfully, and is skipped if any of them fails. The steps depended on can be declared before or
+     * after this step.
+     *
+     * @param name         A non-{@literal null} name for the step, unique within this flow, which other steps use to depend
+     *                     on it
+     * @param request      Prepares the Bastion test to execute for this step, without calling it, given the results of the
+     *                     steps it depends on
+     * @param dependencies The names of the steps which this step depends on
+     * @return This flow (for method chaining)
+     */
+    public FlowBuilder step(String name, Function<FlowResults, ? extends ExecuteRequestBuilder<?>> request, String... dependencies) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(request);
+        Objects.requireNonNull(dependencies);
+        Arrays.stream(dependencies).forEach(Objects::requireNonNull);
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException(String.format("The flow already has a step named '%s'", name));
+        }
+        steps.put(name, new Step(name, request, Arrays.asList(dependencies)));
+        return this;
+    }
+
+    /**
+     * Executes every step in this flow, starting each step as soon as the steps it depends on have completed, and waits
+     * until every step has either completed or been skipped.
+     *
+     * @return The results of every step in this flow, which can be used to retrieve each HTTP response and decoded model
+     * @throws IllegalArgumentException If a step depends on a step which is not declared or if the dependencies of the
+     *                                  steps form a cycle
+     */
+    public FlowResults call() {
+        validateDependencies();
+        return new Execution().run();
+    }
+
+    private void validateDependencies() {
+        for (Step step : steps.values()) {
+            for (String dependency : step.dependencies) {
+                if (!steps.containsKey(dependency)) {
+                    throw new IllegalArgumentException(String.format("The step '%s' of flow '%s' depends on the step '%s' which does not exist",
+                            step.name, message, dependency));
+                }
+            }
+        }
+        // Kahn's algorithm: the steps which are never freed of their dependencies are part of, or depend on, a cycle.
+        Map<String, Integer> remainingDependencies = new HashMap<>();
+        Deque<Step> freeSteps = new ArrayDeque<>();
+        for (Step step : steps.values()) {
+            remainingDependencies.put(step.name, step.dependencies.size());
+            if (step.dependencies.isEmpty()) {
+                freeSteps.add(step);
+            }
+        }
+        Map<String, List<Step>> dependents = getDependents();
+        while (!freeSteps.isEmpty()) {
+            Step step = freeSteps.poll();
+            remainingDependencies.remove(step.name);
+            for (Step dependent : dependents.get(step.name)) {
+                if (remainingDependencies.merge(dependent.name, -1, Integer::sum) == 0) {
+                    freeSteps.add(dependent);
+                }
+            }
+        }
+        if (!remainingDependencies.isEmpty()) {
+            List<String> cyclicSteps = steps.keySet().stream().filter(remainingDependencies::containsKey).collect(Collectors.toList());
+            throw new IllegalArgumentException(String.format("The dependencies of the steps %s of flow '%s' form a cycle", cyclicSteps, message));
+        }
+    }
+
+    private Map<String, List<Step>> getDependents() {
+        Map<String, List<Step>> dependents = new HashMap<>();
+        steps.keySet().forEach(name -> dependents.put(name, new ArrayList<>()));
+        // A step which lists the same dependency twice is freed by each occurrence, so it is counted as a dependent twice.
+        steps.values().forEach(step -> step.dependencies.forEach(dependency -> dependents.get(dependency).add(step)));
+        return dependents;
+    }
+
+    /**
+     * A step of the flow, as declared.
+     */
+    private static final class Step {
+
+        private final String name;
+        private final Function<FlowResults, ? extends ExecuteRequestBuilder<?>> request;
+        private final List<String> dependencies;
+
+        private Step(String name, Function<FlowResults, ? extends ExecuteRequestBuilder<?>> request, List<String> dependencies) {
+            this.name = name;
+            this.request = request;
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * A step which has completed, successfully or not.
+     */
+    private static final class Completion {
+
+        private final Step step;
+        private final PostExecutionBuilder<?> result;
+        private final Throwable failure;
+
+        private Completion(Step step, PostExecutionBuilder<?> result, Throwable failure) {
+            this.step = step;
+            this.result = result;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * A single run of the flow. The steps' Bastion tests complete on other threads, which hand their completions over to the
+     * thread running the flow: that thread alone tracks which steps are ready and prepares their tests.
+     */
+    private final class Execution {
+
+        private final Map<String, List<Step>> dependents = getDependents();
+        private final Map<String, Integer> remainingDependencies = new HashMap<>();
+        private final Map<String, PostExecutionBuilder<?>> results = new HashMap<>();
+        private final Map<String, Throwable> failures = new HashMap<>();
+        private final BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        private int runningSteps = 0;
+
+        private FlowResults run() {
+            steps.values().forEach(step -> remainingDependencies.put(step.name, step.dependencies.size()));
+            steps.values().stream().filter(step -> step.dependencies.isEmpty()).forEach(this::start);
+            while (runningSteps > 0) {
+                Completion completion = takeCompletion();
+                runningSteps--;
+                if (completion.failure != null) {
+                    failures.put(completion.step.name, completion.failure);
+                    continue;
+                }
+                results.put(completion.step.name, completion.result);
+                for (Step dependent : dependents.get(completion.step.name)) {
+                    if (remainingDependencies.merge(dependent.name, -1, Integer::sum) == 0) {
+                        start(dependent);
+                    }
+                }
+            }
+            for (String name : steps.keySet()) {
+                Throwable failure = failures.get(name);
+                if (failure != null) {
+                    throw Throwables.propagate(failure);
+                }
+            }
+            return new FlowResults(message, results);
+        }
+
+        private void start(Step step) {
+            Map<String, PostExecutionBuilder<?>> dependencyResults = new HashMap<>();
+            step.dependencies.forEach(dependency -> dependencyResults.put(dependency, results.get(dependency)));
+            try {
+                ExecuteRequestBuilder<?> request = step.request.apply(new FlowResults(message, Collections.unmodifiableMap(dependencyResults)));
+                Objects.requireNonNull(request, String.format("The step '%s' of flow '%s' did not prepare a Bastion test", step.name, message));
+                request.callAsync().whenComplete((result, throwable) -> completions.add(new Completion(step, result, unwrap(throwable))));
+                runningSteps++;
+            } catch (RuntimeException | Error failure) {
+                failures.put(step.name, failure);
+            }
+        }
+
+        private Completion takeCompletion() {
+            try {
+                return completions.take();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(String.format("Interrupted while waiting for the steps of flow '%s' to complete", message), exception);
+            }
+        }
+
+        private Throwable unwrap(Throwable throwable) {
+            return ((throwable instanceof CompletionException) && (throwable.getCause() != null)) ? throwable.getCause() : throwable;
+        }
+    }
+
+}
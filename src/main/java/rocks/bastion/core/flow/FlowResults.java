@@ -0,0 +1,59 @@
+package rocks.bastion.core.flow;
+
+import rocks.bastion.core.ModelResponse;
+import rocks.bastion.core.builder.PostExecutionBuilder;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The results of the steps of a {@link FlowBuilder flow} which have completed successfully. A step is given the results
+ * of the steps it depends on, while {@link FlowBuilder#call()} returns the results of every step in the flow.
+ */
+public class FlowResults {
+
+    private String message;
+    private Map<String, PostExecutionBuilder<?>> results;
+
+    FlowResults(String message, Map<String, PostExecutionBuilder<?>> results) {
+        this.message = message;
+        this.results = results;
+    }
+
+    /**
+     * @param step The name of a step
+     * @return The executed Bastion test of the given step
+     * @throws IllegalArgumentException If these results do not contain the given step
+     */
+    public PostExecutionBuilder<?> getResult(String step) {
+        Objects.requireNonNull(step);
+        PostExecutionBuilder<?> result = results.get(step);
+        if (result == null) {
+            throw new IllegalArgumentException(String.format("The results of flow '%s' do not contain the step '%s': only the results of the steps %s are available",
+                    message, step, results.keySet()));
+        }
+        return result;
+    }
+
+    /**
+     * @param step The name of a step
+     * @return The HTTP response received by the given step
+     * @throws IllegalArgumentException If these results do not contain the given step
+     */
+    public ModelResponse<?> getResponse(String step) {
+        return getResult(step).getResponse();
+    }
+
+    /**
+     * @param step      The name of a step
+     * @param modelType The model type which the step bound its response to
+     * @param <MODEL>   The model type which the step bound its response to
+     * @return The model decoded from the response received by the given step
+     * @throws IllegalArgumentException If these results do not contain the given step
+     */
+    public <MODEL> MODEL getModel(String step, Class<MODEL> modelType) {
+        Objects.requireNonNull(modelType);
+        return modelType.cast(getResult(step).getModel());
+    }
+
+}
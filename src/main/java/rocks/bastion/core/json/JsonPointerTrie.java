@@ -0,0 +1,254 @@
+package rocks.bastion.core.json;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A set of JSON pointer patterns (as per RFC-6901) compiled into a trie, which can be matched against the pointer of a
+ * node one token at a time while walking a JSON tree. Besides literal tokens, a pattern may contain the {@code *} token,
+ * which matches any single property name or array index, and the {@code **} token, which matches any number of tokens,
+ * including none. For example, {@code /items/*&#47;id} matches the {@code id} property of every element in the
+ * {@code items} array while {@code /**&#47;updatedAt} matches an {@code updatedAt} property anywhere in the tree.
+ * <p>
+ * The trie is compiled into a deterministic automaton, so every step of a walk is a single lookup no matter how many
+ * patterns there are, and matching a pointer takes time proportional to its depth. A compiled trie is immutable and can
+ * be shared between threads.
+ */
+final class JsonPointerTrie {
+
+    static final String WILDCARD_TOKEN = "*";
+    static final String RECURSIVE_WILDCARD_TOKEN = "**";
+
+    static final JsonPointerTrie EMPTY = compile(Collections.emptySet());
+
+    private final State root;
+
+    private JsonPointerTrie(State root) {
+        this.root = root;
+    }
+
+    /**
+     * @param patterns The JSON pointer patterns to compile. Each pattern must start with a {@code /}.
+     * @return A trie matching any of the given patterns
+     */
+    static JsonPointerTrie compile(Collection<String> patterns) {
+        Objects.requireNonNull(patterns);
+        Node rootNode = new Node(false);
+        patterns.forEach(rootNode::add);
+        return new JsonPointerTrie(new AutomatonBuilder().build(rootNode));
+    }
+
+    /**
+     * @return The state matching the empty pointer, which refers to the whole JSON tree
+     */
+    State getRoot() {
+        return root;
+    }
+
+    /**
+     * @return {@literal true} if this trie does not match any pointer
+     */
+    boolean isEmpty() {
+        return root.isDead();
+    }
+
+    /**
+     * @param pointer A JSON pointer, such as {@code "/items/0/id"}
+     * @return {@literal true} if the given pointer is matched by any of this trie's patterns
+     */
+    boolean matches(String pointer) {
+        State state = root;
+        if (!pointer.isEmpty()) {
+            for (String token : pointer.substring(1).split("/", -1)) {
+                state = state.next(decodeToken(token));
+            }
+        }
+        return state.isMatch();
+    }
+
+    private static String decodeToken(String token) {
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+
+    /**
+     * The position reached by a walk through the trie.
+     */
+    static final class State {
+
+        private final boolean match;
+        private final boolean dead;
+        private Map<String, State> literalTransitions = Collections.emptyMap();
+        private State otherTransition = this;
+
+        private State(boolean match, boolean dead) {
+            this.match = match;
+            this.dead = dead;
+        }
+
+        /**
+         * @return {@literal true} if the pointer walked so far is matched by a pattern
+         */
+        boolean isMatch() {
+            return match;
+        }
+
+        /**
+         * @return {@literal true} if no pointer starting with the pointer walked so far can be matched by a pattern
+         */
+        boolean isDead() {
+            return dead;
+        }
+
+        /**
+         * @param propertyName The (unescaped) name of an object property
+         * @return The state reached by stepping into the given property
+         */
+        State next(String propertyName) {
+            if (dead) {
+                return this;
+            }
+            return literalTransitions.getOrDefault(propertyName, otherTransition);
+        }
+
+        /**
+         * @param index The index of an array element
+         * @return The state reached by stepping into the given array element
+         */
+        State next(int index) {
+            if (dead || literalTransitions.isEmpty()) {
+                return otherTransition;
+            }
+            return next(String.valueOf(index));
+        }
+
+        /**
+         * @return The state reached by stepping into an element of an array whose order is ignored: such elements have no
+         * index so only wildcards match them
+         */
+        State nextUnorderedElement() {
+            return otherTransition;
+        }
+    }
+
+    /**
+     * A node of the (non-deterministic) trie of patterns, before compilation.
+     */
+    private static final class Node {
+
+        private final boolean recursive;
+        private final Map<String, Node> children = new HashMap<>();
+        private Node wildcardChild;
+        private Node recursiveChild;
+        private boolean terminal;
+
+        private Node(boolean recursive) {
+            this.recursive = recursive;
+        }
+
+        private boolean isLeaf() {
+            return !terminal && children.isEmpty() && (wildcardChild == null) && (recursiveChild == null);
+        }
+
+        private void add(String pattern) {
+            if (!pattern.startsWith("/")) {
+                throw new IllegalArgumentException(String.format("The JSON pointer pattern '%s' must start with '/'", pattern));
+            }
+            Node node = this;
+            for (String token : pattern.substring(1).split("/", -1)) {
+                node = node.child(token);
+            }
+            node.terminal = true;
+        }
+
+        private Node child(String token) {
+            if (token.equals(WILDCARD_TOKEN)) {
+                if (wildcardChild == null) {
+                    wildcardChild = new Node(false);
+                }
+                return wildcardChild;
+            }
+            if (token.equals(RECURSIVE_WILDCARD_TOKEN)) {
+                if (recursiveChild == null) {
+                    recursiveChild = new Node(true);
+                }
+                return recursiveChild;
+            }
+            return children.computeIfAbsent(decodeToken(token), key -> new Node(false));
+        }
+    }
+
+    /**
+     * Compiles the trie into a deterministic automaton using the subset construction: each {@link State} stands for the
+     * set of trie nodes which a pointer can reach.
+     */
+    private static final class AutomatonBuilder {
+
+        private final Map<Set<Node>, State> states = new HashMap<>();
+        private final Deque<Set<Node>> pendingNodeSets = new ArrayDeque<>();
+
+        private State build(Node rootNode) {
+            State root = getState(closure(Collections.singleton(rootNode)));
+            while (!pendingNodeSets.isEmpty()) {
+                Set<Node> nodes = pendingNodeSets.pop();
+                State state = states.get(nodes);
+                Map<String, State> literalTransitions = new HashMap<>();
+                for (Node node : nodes) {
+                    for (String token : node.children.keySet()) {
+                        literalTransitions.computeIfAbsent(token, key -> getState(step(nodes, key)));
+                    }
+                }
+                state.literalTransitions = literalTransitions;
+                state.otherTransition = getState(step(nodes, null));
+            }
+            return root;
+        }
+
+        private State getState(Set<Node> nodes) {
+            return states.computeIfAbsent(nodes, key -> {
+                pendingNodeSets.push(key);
+                return new State(key.stream().anyMatch(node -> node.terminal), key.stream().allMatch(Node::isLeaf));
+            });
+        }
+
+        /**
+         * @param token The literal token to step over, or {@literal null} to step over a token which only wildcards match
+         */
+        private static Set<Node> step(Set<Node> nodes, String token) {
+            Set<Node> nextNodes = new HashSet<>();
+            for (Node node : nodes) {
+                if (token != null && node.children.containsKey(token)) {
+                    nextNodes.add(node.children.get(token));
+                }
+                if (node.wildcardChild != null) {
+                    nextNodes.add(node.wildcardChild);
+                }
+                if (node.recursive) {
+                    nextNodes.add(node);
+                }
+            }
+            return closure(nextNodes);
+        }
+
+        /**
+         * Adds the nodes which can be reached without consuming a token, since {@code **} also matches no tokens at all.
+         */
+        private static Set<Node> closure(Set<Node> nodes) {
+            Set<Node> closedNodes = new HashSet<>(nodes);
+            Deque<Node> pendingNodes = new ArrayDeque<>(nodes);
+            while (!pendingNodes.isEmpty()) {
+                Node recursiveChild = pendingNodes.pop().recursiveChild;
+                if ((recursiveChild != null) && closedNodes.add(recursiveChild)) {
+                    pendingNodes.push(recursiveChild);
+                }
+            }
+            return closedNodes;
+        }
+    }
+}
@@ -276,7 +276,7 @@ public class JsonRequest implements HttpRequest {
      * @throws TemplateCompilationException Thrown if a variable in the loaded template does not have an assignment in the {@code variableAssignments} map
      */
     public static JsonRequest fromTemplate(HttpMethod method, String url, String jsonTemplateSource, Map<String, String> variableAssignments) {
-        TemplateContentCompiler compiler = new TemplateContentCompiler(new ResourceLoader(jsonTemplateSource).load());
+        TemplateContentCompiler compiler = TemplateContentCompiler.fromResource(jsonTemplateSource);
         compiler.addAllVariableAssignments(variableAssignments);
         return new JsonRequest(method, url, compiler.getContent());
     }
@@ -1,6 +1,5 @@
 package rocks.bastion.core.json;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flipkart.zjsonpatch.JsonDiff;
@@ -104,7 +103,7 @@ public class JsonResponseAssertions implements Assertions<Object> {
     public static JsonResponseAssertions fromTemplate(int expectedStatusCode, String expectedJsonSource, Map<String, String> variableAssignments) {
         Objects.requireNonNull(expectedJsonSource);
         Objects.requireNonNull(variableAssignments);
-        TemplateContentCompiler compiler = new TemplateContentCompiler(new ResourceLoader(expectedJsonSource).load());
+        TemplateContentCompiler compiler = TemplateContentCompiler.fromResource(expectedJsonSource);
         compiler.addAllVariableAssignments(variableAssignments);
         return new JsonResponseAssertions(expectedStatusCode, compiler.getContent());
     }
@@ -113,6 +112,9 @@ public class JsonResponseAssertions implements Assertions<Object> {
     private ContentType contentType;
     private String expectedJson;
     private Collection<String> ignoredFieldsValue;
+    private volatile JsonPointerTrie ignoredFieldsTrie;
+    private boolean arrayOrderIgnored;
+    private volatile JsonNode expectedJsonTree;
 
     protected JsonResponseAssertions(int expectedStatusCode, String expectedJson) {
         Objects.requireNonNull(expectedJson);
@@ -121,6 +123,7 @@ public class JsonResponseAssertions implements Assertions<Object> {
         contentType = ContentType.APPLICATION_JSON;
         this.expectedJson = expectedJson;
         ignoredFieldsValue = new HashSet<>();
+        ignoredFieldsTrie = JsonPointerTrie.EMPTY;
 
         validateExpectedJson();
     }
@@ -130,6 +133,11 @@ public class JsonResponseAssertions implements Assertions<Object> {
      * JSON field is missing, is in the wrong place, or is extra. Ignoring fields' values using this method is useful for
      * randomly generated values in the response, such as IDs or timestamps.
      * <br><br>
+     * Each field is a JSON pointer which may contain wildcards: the {@code *} token matches any single property name or array
+     * index while the {@code **} token matches any number of them. For example, {@code /items/*&#47;id} ignores the ID of
+     * every element in the {@code items} array and {@code **&#47;updatedAt} ignores every {@code updatedAt} property, no matter
+     * how deeply it is nested.
+     * <br><br>
      * Implementation wise, when performing the JSON patch diff between the expected and the actual responses, Bastion will ignore
      * any patch operations which have {@code op} {@code "replace"} and a field which is one of the ignored fields.
      *
@@ -139,6 +147,23 @@ public class JsonResponseAssertions implements Assertions<Object> {
     public JsonResponseAssertions ignoreValuesForProperties(String... fields) {
         Objects.requireNonNull(fields);
         Arrays.stream(fields).forEach(this::ignoreValueForProperty);
+        ignoredFieldsTrie = JsonPointerTrie.compile(ignoredFieldsValue);
+        return this;
+    }
+
+    /**
+     * Compare every JSON array in the actual response with the expected array regardless of the order of their elements:
+     * the assertion passes as long as each expected element is matched by exactly one equal element in the actual array.
+     * This is useful for collections which are returned in an unspecified order. If the arrays do not match, the assertion
+     * error lists the unexpected and the missing elements instead of a JSON Patch.
+     * <br><br>
+     * Elements of arrays compared this way have no position, so to ignore a field's value inside such elements, use the
+     * {@code *} token instead of an index in the field's path, such as {@code /items/*&#47;id}.
+     *
+     * @return This object (for method chaining)
+     */
+    public JsonResponseAssertions ignoreArrayOrder() {
+        arrayOrderIgnored = true;
         return this;
     }
 
@@ -156,13 +181,32 @@ public class JsonResponseAssertions implements Assertions<Object> {
         return this;
     }
 
+    /**
+     * These assertions only check the response body, so the response model does not need to be decoded.
+     *
+     * @return {@literal false}
+     */
+    @Override
+    public boolean isModelRequired() {
+        return false;
+    }
+
     @Override
     public void execute(int statusCode, ModelResponse<?> response, Object model) throws AssertionError {
         try {
             Assert.assertEquals("Response Status Code", expectedStatusCode, statusCode);
             assertContentTypeHeader(response);
-            JsonNode jsonPatch = computeJsonPatch(response);
-            assertJsonPatchIsEmpty(jsonPatch);
+            JsonNode actualJsonTree = response.getJsonTree();
+            JsonNode expectedJsonTree = getExpectedJsonTree();
+            JsonTreeComparator comparator = new JsonTreeComparator(ignoredFieldsTrie, arrayOrderIgnored);
+            if (comparator.matches(actualJsonTree, expectedJsonTree)) {
+                return;
+            }
+            if (arrayOrderIgnored) {
+                // A JSON Patch would describe reordered arrays as a long list of changes, so report the difference instead.
+                Assert.fail(format("Actual response body is not as expected. %s.", comparator.getMismatch()));
+            }
+            assertJsonPatchIsEmpty(computeJsonPatch(actualJsonTree, expectedJsonTree));
         } catch (IOException e) {
             throw new RuntimeException("An error occurred while parsing JSON text", e);
         }
@@ -200,11 +244,20 @@ public class JsonResponseAssertions implements Assertions<Object> {
         Assert.assertEquals("Content-type MIME type", contentType.getMimeType(), response.getContentType().get().getMimeType());
     }
 
-    private JsonNode computeJsonPatch(Response response) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonFactory factory = mapper.getFactory();
-        JsonNode actualJsonTree = factory.createParser(response.getBody()).readValueAsTree();
-        JsonNode expectedJsonTree = factory.createParser(expectedJson).readValueAsTree();
+    private JsonNode getExpectedJsonTree() throws IOException {
+        JsonNode jsonTree = expectedJsonTree;
+        if (jsonTree == null) {
+            jsonTree = new ObjectMapper().readTree(expectedJson);
+            expectedJsonTree = jsonTree;
+        }
+        return jsonTree;
+    }
+
+    /**
+     * Computes the full JSON patch between the actual and expected trees. This is only done once the trees are known to
+     * differ, since diffing large documents is much more expensive than comparing them.
+     */
+    private JsonNode computeJsonPatch(JsonNode actualJsonTree, JsonNode expectedJsonTree) {
         JsonNode jsonPatch = JsonDiff.asJson(actualJsonTree, expectedJsonTree);
         removeReplaceOpsForIgnoredFields(jsonPatch);
         return jsonPatch;
@@ -216,7 +269,7 @@ public class JsonResponseAssertions implements Assertions<Object> {
             JsonNode patchOperation = patchIterator.next();
             JsonNode operationType = patchOperation.get("op");
             JsonNode pathName = patchOperation.get("path");
-            if (operationType.asText().equals("replace") && ignoredFieldsValue.contains(pathName.asText())) {
+            if (operationType.asText().equals("replace") && ignoredFieldsTrie.matches(pathName.asText())) {
                 patchIterator.remove();
             }
         }
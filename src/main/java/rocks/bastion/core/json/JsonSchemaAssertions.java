@@ -1,42 +1,122 @@
 package rocks.bastion.core.json;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonschema.core.exceptions.InvalidSchemaException;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.load.configuration.LoadingConfiguration;
 import com.github.fge.jsonschema.core.report.ProcessingMessage;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
 import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.junit.Assert;
 import rocks.bastion.core.Assertions;
 import rocks.bastion.core.ModelResponse;
+import rocks.bastion.core.resource.InvalidResourceException;
 import rocks.bastion.core.resource.ResourceLoader;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 /**
  * Asserts that an API response has conforms to a given JSON schema.
+ * <p>
+ * Compiled schemas are kept in a process-wide cache, keyed by the schema's resource source or, for schemas given as
+ * strings, by the schema text, so each schema is only compiled once no matter how many assertions use it. Compiled
+ * schemas are immutable and are shared by concurrently executing assertions. Schemas may reference other schemas using
+ * {@code $ref}: references are resolved relative to the resource the referencing schema was loaded from and may also
+ * point at classpath resources directly, such as {@code "classpath:/json/definitions.json#/definitions/sushi"}.
+ * </p>
  */
 public class JsonSchemaAssertions implements Assertions<Object> {
 
+    /**
+     * The maximum number of compiled schemas kept in the cache unless changed using {@link #setSchemaCacheMaximumSize(long)}.
+     */
+    public static final long DEFAULT_SCHEMA_CACHE_MAXIMUM_SIZE = 256;
+
+    private static final String CLASSPATH_SCHEME = "classpath";
+
+    private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.newBuilder()
+                                                                             .setLoadingConfiguration(LoadingConfiguration.newBuilder()
+                                                                                                                          .addScheme(CLASSPATH_SCHEME, JsonSchemaAssertions::fetchResource)
+                                                                                                                          .freeze())
+                                                                             .freeze();
+
+    private static volatile Cache<Object, JsonSchema> schemaCache = newSchemaCache(DEFAULT_SCHEMA_CACHE_MAXIMUM_SIZE);
+
     private String expectedSchema;
+    private URI expectedSchemaUri;
 
     protected JsonSchemaAssertions(String expectedSchema) {
         Objects.requireNonNull(expectedSchema);
         this.expectedSchema = expectedSchema;
     }
 
+    private JsonSchemaAssertions(String expectedSchema, URI expectedSchemaUri) {
+        this(expectedSchema);
+        this.expectedSchemaUri = expectedSchemaUri;
+    }
+
     public static JsonSchemaAssertions fromString(String expectedSchemaJson) {
         return new JsonSchemaAssertions(expectedSchemaJson);
     }
 
     public static JsonSchemaAssertions fromResource(String expectedSchemaSource) {
         Objects.requireNonNull(expectedSchemaSource);
-        return new JsonSchemaAssertions(new ResourceLoader(expectedSchemaSource).load());
+        return new JsonSchemaAssertions(new ResourceLoader(expectedSchemaSource).load(), toSchemaUri(expectedSchemaSource));
+    }
+
+    /**
+     * Returns the hit, miss and eviction counts of the compiled schema cache, since the cache was created.
+     *
+     * @return A snapshot of the schema cache's statistics
+     */
+    public static CacheStats getSchemaCacheStats() {
+        return schemaCache.stats();
+    }
+
+    /**
+     * Replaces the compiled schema cache with an empty cache which holds at most the given number of schemas.
+     *
+     * @param maximumSize A non-negative maximum number of schemas. A size of {@code 0} disables caching.
+     */
+    public static void setSchemaCacheMaximumSize(long maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("The schema cache maximum size cannot be negative");
+        }
+        schemaCache = newSchemaCache(maximumSize);
+    }
+
+    /**
+     * Removes all compiled schemas from the schema cache.
+     */
+    public static void clearSchemaCache() {
+        schemaCache.invalidateAll();
+    }
+
+    /**
+     * These assertions only check the response body, so the response model does not need to be decoded.
+     *
+     * @return {@literal false}
+     */
+    @Override
+    public boolean isModelRequired() {
+        return false;
     }
 
     @Override
@@ -44,8 +124,7 @@ public class JsonSchemaAssertions implements Assertions<Object> {
                         ModelResponse<?> response,
                         Object model) throws AssertionError {
         try {
-            JsonNode jsonNodeOfResponse = convertResponseToJsonNode(response);
-            assertResponseConformsToSchema(jsonNodeOfResponse);
+            assertResponseConformsToSchema(response.getJsonTree());
         } catch (IOException e) {
             throw new RuntimeException("An error occurred while parsing JSON text", e);
         } catch (InvalidSchemaException e) {
@@ -55,15 +134,8 @@ public class JsonSchemaAssertions implements Assertions<Object> {
         }
     }
 
-    private JsonNode convertResponseToJsonNode(ModelResponse<?> response) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonFactory factory = mapper.getFactory();
-        return factory.createParser(response.getBody()).readValueAsTree();
-    }
-
     private void assertResponseConformsToSchema(JsonNode response) throws ProcessingException, IOException {
-        ProcessingReport validationReport = JsonSchemaFactory.byDefault()
-                                                             .getJsonSchema(getExpectedSchema()).validate(response);
+        ProcessingReport validationReport = getExpectedSchema().validate(response);
         if (!validationReport.isSuccess()) {
             String messages = StreamSupport.stream(validationReport.spliterator(), false)
                                            .map(ProcessingMessage::getMessage)
@@ -72,9 +144,55 @@ public class JsonSchemaAssertions implements Assertions<Object> {
         }
     }
 
-    private JsonNode getExpectedSchema() throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readTree(expectedSchema);
+    private JsonSchema getExpectedSchema() throws ProcessingException, IOException {
+        try {
+            return schemaCache.get((expectedSchemaUri == null) ? expectedSchema : expectedSchemaUri, this::compileExpectedSchema);
+        } catch (ExecutionException exception) {
+            Throwables.propagateIfInstanceOf(exception.getCause(), ProcessingException.class);
+            Throwables.propagateIfInstanceOf(exception.getCause(), IOException.class);
+            throw Throwables.propagate(exception.getCause());
+        } catch (UncheckedExecutionException | ExecutionError exception) {
+            // Guava wraps runtime exceptions and errors thrown while compiling the schema, such as InvalidSchemaException.
+            throw Throwables.propagate(exception.getCause());
+        }
+    }
+
+    private JsonSchema compileExpectedSchema() throws ProcessingException, IOException {
+        if (expectedSchemaUri == null) {
+            return SCHEMA_FACTORY.getJsonSchema(new ObjectMapper().readTree(expectedSchema));
+        }
+        return SCHEMA_FACTORY.getJsonSchema(expectedSchemaUri.toString());
+    }
+
+    /**
+     * Converts a resource source into the URI which the schema is loaded from, so that relative {@code $ref}s can be
+     * resolved against it. Sources which are not absolute hierarchical URIs, such as plain file paths, have no URI and
+     * their schemas are compiled from the loaded text instead.
+     */
+    private static URI toSchemaUri(String source) {
+        String normalisedSource = source;
+        if (source.startsWith(CLASSPATH_SCHEME + ':') && !source.startsWith(CLASSPATH_SCHEME + ":/")) {
+            normalisedSource = CLASSPATH_SCHEME + ":/" + source.substring(CLASSPATH_SCHEME.length() + 1);
+        }
+        try {
+            URI uri = new URI(normalisedSource);
+            return (uri.isAbsolute() && !uri.isOpaque()) ? uri : null;
+        } catch (URISyntaxException ignored) {
+            return null;
+        }
+    }
+
+    private static InputStream fetchResource(URI uri) throws IOException {
+        try {
+            String source = uri.getScheme() + ':' + uri.getRawSchemeSpecificPart();
+            return new ByteArrayInputStream(new ResourceLoader(source).load().getBytes(Charset.defaultCharset()));
+        } catch (InvalidResourceException exception) {
+            throw new IOException(exception);
+        }
+    }
+
+    private static Cache<Object, JsonSchema> newSchemaCache(long maximumSize) {
+        return CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
     }
 
 }
@@ -0,0 +1,235 @@
+package rocks.bastion.core.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Structurally compares an actual JSON tree against an expected JSON tree in a single walk, stopping at the first
+ * difference found. Object properties are compared regardless of their order. Array elements are compared by position
+ * or, if array order is ignored, as multisets: each element is matched to an equal element anywhere in the other array.
+ * Multiset matching buckets the expected elements by a structural hash, which is itself independent of property and
+ * array order, so matching takes near-linear time instead of comparing every pair of elements.
+ * <p>
+ * The values at ignored JSON pointers (as per RFC-6901), given as a compiled {@link JsonPointerTrie} of pointer patterns,
+ * are not compared, as long as the value is present in both trees. The trie is walked alongside the trees, so checking
+ * whether a value is ignored costs a single lookup per node.
+ * Ignoring a pointer only ignores a changed value: a missing or extra value, or an object or array whose contents differ,
+ * is still a difference. This mirrors the JSON Patch {@code "replace"} operations which {@link JsonResponseAssertions}
+ * ignores, so that the full patch only needs to be computed when this comparator finds a difference. Elements of arrays
+ * whose order is ignored have no position, so they are only matched by wildcard tokens in ignored pointers, such as
+ * {@code /items/*&#47;id}.
+ * <p>
+ * A comparator is not thread-safe.
+ */
+final class JsonTreeComparator {
+
+    private static final String UNORDERED_ELEMENT_TOKEN = JsonPointerTrie.WILDCARD_TOKEN;
+
+    private final JsonPointerTrie ignoredPointers;
+    private final boolean ignoreArrayOrder;
+    private final StringBuilder currentPointer = new StringBuilder();
+    private String mismatch;
+
+    JsonTreeComparator(JsonPointerTrie ignoredPointers) {
+        this(ignoredPointers, false);
+    }
+
+    JsonTreeComparator(JsonPointerTrie ignoredPointers, boolean ignoreArrayOrder) {
+        Objects.requireNonNull(ignoredPointers);
+        this.ignoredPointers = ignoredPointers;
+        this.ignoreArrayOrder = ignoreArrayOrder;
+    }
+
+    /**
+     * @param actual   The actual JSON tree received in a response
+     * @param expected The expected JSON tree
+     * @return {@literal true} if the trees are equal, apart from any ignored values; {@literal false} otherwise
+     */
+    boolean matches(JsonNode actual, JsonNode expected) {
+        mismatch = null;
+        if (ignoredPointers.isEmpty() && !ignoreArrayOrder && Objects.equals(actual, expected)) {
+            return true;
+        }
+        if ((actual == null) || (expected == null)) {
+            return (actual == expected) || mismatch(format("The response body is %s but was expected to be %s", actual, expected));
+        }
+        currentPointer.setLength(0);
+        boolean matches = nodesMatch(actual, expected, ignoredPointers.getRoot());
+        if (matches) {
+            // Discard any differences found while trying to match unordered array elements.
+            mismatch = null;
+        }
+        return matches;
+    }
+
+    /**
+     * @return A description of the first difference found by the last call to {@link #matches(JsonNode, JsonNode)}, or
+     * {@literal null} if the trees matched
+     */
+    String getMismatch() {
+        return mismatch;
+    }
+
+    private boolean nodesMatch(JsonNode actual, JsonNode expected, JsonPointerTrie.State ignoredState) {
+        if (actual.getNodeType() != expected.getNodeType()) {
+            return ignoredState.isMatch() || valueMismatch(actual, expected);
+        }
+        if (actual.isObject()) {
+            return objectsMatch(actual, expected, ignoredState);
+        }
+        if (actual.isArray()) {
+            return ignoreArrayOrder ? unorderedArraysMatch(actual, expected, ignoredState) : arraysMatch(actual, expected, ignoredState);
+        }
+        return actual.equals(expected) || ignoredState.isMatch() || valueMismatch(actual, expected);
+    }
+
+    private boolean objectsMatch(JsonNode actual, JsonNode expected, JsonPointerTrie.State ignoredState) {
+        int parentPointerLength = currentPointer.length();
+        Iterator<Map.Entry<String, JsonNode>> expectedFields = expected.fields();
+        while (expectedFields.hasNext()) {
+            Map.Entry<String, JsonNode> expectedField = expectedFields.next();
+            JsonNode actualValue = actual.get(expectedField.getKey());
+            appendPointerToken(expectedField.getKey());
+            boolean matches = (actualValue == null) ? mismatch(format("The property at \"%s\" is missing", getCurrentPointer()))
+                    : nodesMatch(actualValue, expectedField.getValue(), ignoredState.next(expectedField.getKey()));
+            currentPointer.setLength(parentPointerLength);
+            if (!matches) {
+                return false;
+            }
+        }
+        if (actual.size() != expected.size()) {
+            Iterator<String> actualFieldNames = actual.fieldNames();
+            while (actualFieldNames.hasNext()) {
+                String actualFieldName = actualFieldNames.next();
+                if (!expected.has(actualFieldName)) {
+                    appendPointerToken(actualFieldName);
+                    mismatch(format("The property at \"%s\" is not expected", getCurrentPointer()));
+                    currentPointer.setLength(parentPointerLength);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean arraysMatch(JsonNode actual, JsonNode expected, JsonPointerTrie.State ignoredState) {
+        if (actual.size() != expected.size()) {
+            return mismatch(format("The array at \"%s\" has %d elements but was expected to have %d", getCurrentPointer(), actual.size(), expected.size()));
+        }
+        int parentPointerLength = currentPointer.length();
+        for (int index = 0; index < expected.size(); index++) {
+            currentPointer.append('/').append(index);
+            boolean matches = nodesMatch(actual.get(index), expected.get(index), ignoredState.next(index));
+            currentPointer.setLength(parentPointerLength);
+            if (!matches) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean unorderedArraysMatch(JsonNode actual, JsonNode expected, JsonPointerTrie.State ignoredState) {
+        int parentPointerLength = currentPointer.length();
+        currentPointer.append('/').append(UNORDERED_ELEMENT_TOKEN);
+        JsonPointerTrie.State elementIgnoredState = ignoredState.nextUnorderedElement();
+        Map<Integer, List<JsonNode>> expectedElementsByHash = new HashMap<>();
+        for (JsonNode expectedElement : expected) {
+            expectedElementsByHash.computeIfAbsent(structuralHash(expectedElement, elementIgnoredState), hash -> new LinkedList<>()).add(expectedElement);
+        }
+        List<JsonNode> unexpectedElements = new ArrayList<>();
+        for (JsonNode actualElement : actual) {
+            List<JsonNode> candidates = expectedElementsByHash.get(structuralHash(actualElement, elementIgnoredState));
+            if ((candidates == null) || !removeMatchingCandidate(actualElement, candidates, elementIgnoredState)) {
+                unexpectedElements.add(actualElement);
+            }
+        }
+        currentPointer.setLength(parentPointerLength);
+        if (unexpectedElements.isEmpty() && (actual.size() == expected.size())) {
+            return true;
+        }
+        List<JsonNode> missingElements = new ArrayList<>();
+        expectedElementsByHash.values().forEach(missingElements::addAll);
+        return mismatch(format("The array at \"%s\" does not contain the expected elements, regardless of their order. Unexpected elements: %s. Missing elements: %s",
+                getCurrentPointer(), unexpectedElements, missingElements));
+    }
+
+    private boolean removeMatchingCandidate(JsonNode actualElement, List<JsonNode> candidates, JsonPointerTrie.State ignoredState) {
+        Iterator<JsonNode> candidateIterator = candidates.iterator();
+        while (candidateIterator.hasNext()) {
+            if (nodesMatch(actualElement, candidateIterator.next(), ignoredState)) {
+                candidateIterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes a hash of the given node which is equal for any two nodes which this comparator considers to match: object
+     * properties and, since this is only used when array order is ignored, array elements are combined by addition so
+     * that their order does not affect the hash, while ignored values contribute a constant.
+     */
+    private static int structuralHash(JsonNode node, JsonPointerTrie.State ignoredState) {
+        if (ignoredState.isMatch()) {
+            return 0;
+        }
+        int hash;
+        if (node.isObject()) {
+            hash = 1;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                hash += mix(field.getKey().hashCode() * 31 + structuralHash(field.getValue(), ignoredState.next(field.getKey())));
+            }
+        } else if (node.isArray()) {
+            hash = 2;
+            for (JsonNode element : node) {
+                hash += mix(structuralHash(element, ignoredState.nextUnorderedElement()));
+            }
+        } else {
+            hash = node.hashCode();
+        }
+        return hash;
+    }
+
+    private static int mix(int hash) {
+        int mixed = hash * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    private boolean valueMismatch(JsonNode actual, JsonNode expected) {
+        return mismatch(format("The value at \"%s\" is %s but was expected to be %s", getCurrentPointer(), actual, expected));
+    }
+
+    private boolean mismatch(String description) {
+        mismatch = description;
+        return false;
+    }
+
+    private String getCurrentPointer() {
+        return (currentPointer.length() == 0) ? "/" : currentPointer.toString();
+    }
+
+    private void appendPointerToken(String propertyName) {
+        currentPointer.append('/');
+        for (int index = 0; index < propertyName.length(); index++) {
+            char character = propertyName.charAt(index);
+            if (character == '~') {
+                currentPointer.append("~0");
+            } else if (character == '/') {
+                currentPointer.append("~1");
+            } else {
+                currentPointer.append(character);
+            }
+        }
+    }
+}
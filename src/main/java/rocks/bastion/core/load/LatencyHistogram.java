@@ -0,0 +1,192 @@
+package rocks.bastion.core.load;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A histogram of latency values modelled on <a href="http://hdrhistogram.org/">HdrHistogram</a>. Values are counted in
+ * log-linear buckets so that any recorded value, from a single nanosecond up to the histogram's highest trackable value,
+ * is reported with a relative error of at most 0.1% while the histogram itself stays a fixed, small size regardless of
+ * how many values are recorded. Values above the highest trackable value are counted as the highest trackable value;
+ * the exact {@link #getMaxValue() maximum} is always kept.
+ * <p>
+ * A histogram is not thread-safe. Concurrent recorders should each record into their own histogram and then
+ * {@link #add(LatencyHistogram) merge} the histograms together once recording is over.
+ * <p>
+ * To correct for <a href="https://www.azul.com/files/HowNotToMeasureLatency_LLSummit_NYC_12Nov2013.pdf">coordinated
+ * omission</a>, latencies should be measured from the time each request was intended to be sent rather than from the time
+ * it was actually sent. When that is not possible, such as when requests are sent one after the other,
+ * {@link #recordValueWithExpectedInterval(long, long)} back-fills the samples which a stalled server prevented from being
+ * taken.
+ */
+public class LatencyHistogram {
+
+    /**
+     * The highest value tracked by histograms built with the {@link #LatencyHistogram() default constructor}: one hour,
+     * in nanoseconds.
+     */
+    public static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = TimeUnit.HOURS.toNanos(1);
+
+    private static final int SUB_BUCKET_BITS = 11;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+    private final long highestTrackableValue;
+    private final long[] counts;
+    private long totalCount;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue;
+    private double sum;
+
+    /**
+     * Constructs a histogram which tracks values of up to one hour, in nanoseconds.
+     */
+    public LatencyHistogram() {
+        this(DEFAULT_HIGHEST_TRACKABLE_VALUE);
+    }
+
+    /**
+     * Constructs a histogram which tracks values up to the given value.
+     *
+     * @param highestTrackableValue The highest value to track precisely; must be at least 2
+     */
+    public LatencyHistogram(long highestTrackableValue) {
+        if (highestTrackableValue < 2) {
+            throw new IllegalArgumentException("The highest trackable value must be at least 2");
+        }
+        this.highestTrackableValue = highestTrackableValue;
+        counts = new long[countsIndex(highestTrackableValue) + 1];
+    }
+
+    /**
+     * Records a single value.
+     *
+     * @param value A non-negative value, such as a latency in nanoseconds
+     */
+    public void recordValue(long value) {
+        recordValue(value, 1);
+    }
+
+    /**
+     * Records a single value and, if the value is larger than the expected interval between samples, also records the
+     * values which would have been measured by the samples which were missed while waiting for this one. For example, if
+     * requests are sent every 10ms and one request takes 50ms, the requests which should have been sent during those 50ms
+     * would have taken 40ms, 30ms, 20ms and 10ms.
+     *
+     * @param value            A non-negative value, such as a latency in nanoseconds
+     * @param expectedInterval The expected interval between samples, in the same unit as the {@code value}. Correction
+     *                         is disabled if this is not positive.
+     */
+    public void recordValueWithExpectedInterval(long value, long expectedInterval) {
+        recordValue(value);
+        if (expectedInterval <= 0) {
+            return;
+        }
+        for (long missedValue = value - expectedInterval; missedValue >= expectedInterval; missedValue -= expectedInterval) {
+            recordValue(missedValue);
+        }
+    }
+
+    /**
+     * Adds all the values recorded in the given histogram to this histogram.
+     *
+     * @param other The non-{@literal null} histogram to merge into this one
+     */
+    public void add(LatencyHistogram other) {
+        for (int index = 0; index < other.counts.length; index++) {
+            if (other.counts[index] > 0) {
+                int targetIndex = Math.min(index, counts.length - 1);
+                counts[targetIndex] += other.counts[index];
+            }
+        }
+        totalCount += other.totalCount;
+        minValue = Math.min(minValue, other.minValue);
+        maxValue = Math.max(maxValue, other.maxValue);
+        sum += other.sum;
+    }
+
+    /**
+     * @return The number of values recorded in this histogram
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return The smallest value recorded, or 0 if no values were recorded
+     */
+    public long getMinValue() {
+        return (totalCount == 0) ? 0 : minValue;
+    }
+
+    /**
+     * @return The largest value recorded, or 0 if no values were recorded
+     */
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * @return The mean of all the values recorded, or 0 if no values were recorded
+     */
+    public double getMean() {
+        return (totalCount == 0) ? 0 : (sum / totalCount);
+    }
+
+    /**
+     * Returns the value below which the given percentage of recorded values fall. The returned value is accurate to within
+     * 0.1% of the exact value.
+     *
+     * @param percentile A percentage between 0 and 100, such as {@code 99.9}
+     * @return The value at the given percentile, or 0 if no values were recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if ((percentile < 0) || (percentile > 100)) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100");
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long targetCount = Math.max(1, (long) Math.ceil((percentile / 100) * totalCount));
+        long cumulativeCount = 0;
+        for (int index = 0; index < counts.length; index++) {
+            cumulativeCount += counts[index];
+            if (cumulativeCount >= targetCount) {
+                return Math.max(getMinValue(), Math.min(highestEquivalentValue(index), maxValue));
+            }
+        }
+        return maxValue;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, p50=%d, p90=%d, p99=%d, p99.9=%d, max=%d", totalCount, getValueAtPercentile(50), getValueAtPercentile(90),
+                getValueAtPercentile(99), getValueAtPercentile(99.9), maxValue);
+    }
+
+    private void recordValue(long value, long count) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Cannot record a negative value");
+        }
+        counts[countsIndex(Math.min(value, highestTrackableValue))] += count;
+        totalCount += count;
+        minValue = Math.min(minValue, value);
+        maxValue = Math.max(maxValue, value);
+        sum += (double) value * count;
+    }
+
+    /**
+     * Values below {@link #SUB_BUCKET_COUNT} are counted exactly. Larger values are shifted right until they fall in the
+     * upper half of the sub-bucket range: the number of shifts selects the bucket and the shifted value the sub-bucket.
+     */
+    private static int countsIndex(long value) {
+        int bucketIndex = Math.max(0, (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1));
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return (bucketIndex * SUB_BUCKET_HALF_COUNT) + subBucketIndex;
+    }
+
+    private static long highestEquivalentValue(int countsIndex) {
+        int bucketIndex = Math.max(0, (countsIndex / SUB_BUCKET_HALF_COUNT) - 1);
+        int subBucketIndex = countsIndex - (bucketIndex * SUB_BUCKET_HALF_COUNT);
+        return (((long) subBucketIndex + 1) << bucketIndex) - 1;
+    }
+}
@@ -0,0 +1,73 @@
+package rocks.bastion.core.load;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the latency and outcome of every request issued by a load test. Responses complete on whichever thread the
+ * transport uses, so latencies are recorded into a fixed number of {@link LatencyHistogram histograms}, one per processor.
+ * Each thread always records into the same histogram, picked by its ID, and only locks that histogram, so threads rarely
+ * wait for each other. The number of histograms does not depend on how many threads record latencies, and the histograms
+ * are merged once the load test is over.
+ */
+class LatencyRecorder {
+
+    private final AtomicReferenceArray<LatencyHistogram> stripes;
+    private final LongAdder errorCount = new LongAdder();
+
+    LatencyRecorder() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    LatencyRecorder(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("The number of histograms must be positive");
+        }
+        stripes = new AtomicReferenceArray<>(stripeCount);
+    }
+
+    void record(long latencyNanos, boolean failed) {
+        LatencyHistogram histogram = getStripe((int) (Thread.currentThread().getId() % stripes.length()));
+        synchronized (histogram) {
+            histogram.recordValue(Math.max(0, latencyNanos));
+        }
+        if (failed) {
+            errorCount.increment();
+        }
+    }
+
+    long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * Merges the histograms of every recording thread. Latencies which are recorded while the histograms are being merged
+     * may or may not be included, so this should be called once the load test is over.
+     *
+     * @return A new histogram containing every latency recorded so far, in nanoseconds
+     */
+    LatencyHistogram getMergedHistogram() {
+        LatencyHistogram mergedHistogram = new LatencyHistogram();
+        for (int index = 0; index < stripes.length(); index++) {
+            LatencyHistogram histogram = stripes.get(index);
+            if (histogram != null) {
+                synchronized (histogram) {
+                    mergedHistogram.add(histogram);
+                }
+            }
+        }
+        return mergedHistogram;
+    }
+
+    /**
+     * Histograms are only created once a thread records into them, since each one takes up a few hundred kilobytes.
+     */
+    private LatencyHistogram getStripe(int index) {
+        LatencyHistogram histogram = stripes.get(index);
+        if (histogram == null) {
+            stripes.compareAndSet(index, null, new LatencyHistogram());
+            histogram = stripes.get(index);
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,104 @@
+package rocks.bastion.core.load;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summarises an open-model load test run using a {@link LoadTestBuilder}: how many requests were issued, how many of them
+ * failed, the throughput which was achieved and the distribution of response latencies. Latencies are measured from the
+ * time each request was scheduled to be sent, so they are corrected for coordinated omission: a stalled client or server
+ * cannot hide its own latency by delaying the requests which would have measured it.
+ */
+public class LoadReport {
+
+    private double targetArrivalRate;
+    private long elapsedNanos;
+    private long requestCount;
+    private long errorCount;
+    private LatencyHistogram latencyHistogram;
+
+    LoadReport(double targetArrivalRate, long elapsedNanos, LatencyRecorder latencyRecorder) {
+        this.targetArrivalRate = targetArrivalRate;
+        this.elapsedNanos = elapsedNanos;
+        latencyHistogram = latencyRecorder.getMergedHistogram();
+        requestCount = latencyHistogram.getTotalCount();
+        errorCount = latencyRecorder.getErrorCount();
+    }
+
+    /**
+     * @return The arrival rate, in requests per second, which the load test was configured with
+     */
+    public double getTargetArrivalRate() {
+        return targetArrivalRate;
+    }
+
+    /**
+     * @return The number of requests which were issued and completed
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * @return The number of requests which could not be sent or which failed their assertions
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * @return The fraction, between 0 and 1, of requests which could not be sent or which failed their assertions
+     */
+    public double getErrorRate() {
+        return (requestCount == 0) ? 0 : ((double) errorCount / requestCount);
+    }
+
+    /**
+     * @return The number of requests completed per second, over the whole run of the load test
+     */
+    public double getThroughput() {
+        return (elapsedNanos == 0) ? 0 : (requestCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+    }
+
+    /**
+     * @param unit The time unit to return the duration in
+     * @return The wall-clock time taken from issuing the first request until the last response was received
+     */
+    public long getElapsed(TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the latency below which the given percentage of requests completed. The latency is accurate to within 0.1%.
+     *
+     * @param percentile A percentage between 0 and 100, such as {@code 99.9}
+     * @param unit       The time unit to return the latency in
+     * @return The latency at the given percentile, or 0 if no requests completed
+     */
+    public long getLatencyPercentile(double percentile, TimeUnit unit) {
+        return unit.convert(latencyHistogram.getValueAtPercentile(percentile), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param unit The time unit to return the latency in
+     * @return The highest latency of any request, or 0 if no requests completed
+     */
+    public long getMaxLatency(TimeUnit unit) {
+        return unit.convert(latencyHistogram.getMaxValue(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return The histogram of every request's latency, in nanoseconds, which can be merged with the histograms of other
+     * load tests
+     */
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests=%d, errors=%d (%.2f%%), throughput=%.1f/s (target %.1f/s), latency p50=%dms, p90=%dms, p99=%dms, p99.9=%dms, max=%dms",
+                requestCount, errorCount, getErrorRate() * 100, getThroughput(), targetArrivalRate,
+                getLatencyPercentile(50, TimeUnit.MILLISECONDS), getLatencyPercentile(90, TimeUnit.MILLISECONDS),
+                getLatencyPercentile(99, TimeUnit.MILLISECONDS), getLatencyPercentile(99.9, TimeUnit.MILLISECONDS), getMaxLatency(TimeUnit.MILLISECONDS));
+    }
+}
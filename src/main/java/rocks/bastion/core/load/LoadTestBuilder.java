@@ -0,0 +1,204 @@
+package rocks.bastion.core.load;
+
+import rocks.bastion.core.Assertions;
+import rocks.bastion.core.BastionFactory;
+import rocks.bastion.core.HttpRequest;
+import rocks.bastion.core.builder.AssertionsBuilder;
+import rocks.bastion.core.builder.BastionBuilder;
+import rocks.bastion.core.builder.PostExecutionBuilder;
+import rocks.bastion.core.event.BastionEventPublisher;
+import rocks.bastion.core.event.FailureRecordingListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs existing Bastion {@link HttpRequest requests} as an open-model load test. Requests are issued at a fixed
+ * {@link #atArrivalRate(double) arrival rate} for a fixed {@link #forDuration(long, TimeUnit) duration}, regardless of how
+ * long the remote server takes to respond: a slow response does not delay the requests scheduled after it. When more than
+ * one request is given, the requests are issued in turn.
+ * <p>
+ * Every request is executed as a normal Bastion test built by a {@link BastionFactory}, so the factory's transport,
+ * decoders and listeners apply and the response is checked against the {@link #withAssertions(Assertions) assertions}
+ * given to this builder. Requests are started using {@link rocks.bastion.core.builder.ExecuteRequestBuilder#callAsync()}
+ * so the arrival rate which can be sustained depends on the factory's transport and call executor. Once every request has
+ * been issued, the load test waits for the outstanding responses and returns a {@link LoadReport} with the achieved
+ * throughput, error rate and latency percentiles. Latencies are measured from each request's intended send time, as
+ * dictated by the arrival rate, so that they are corrected for coordinated omission.
+ * <p>
+ * Load tests are normally started using the {@link rocks.bastion.Bastion#load(String, List)} method.
+ *
+ * @param <MODEL> The model type which responses are bound to
+ */
+public class LoadTestBuilder<MODEL> {
+
+    private BastionFactory bastionFactory;
+    private String message;
+    private List<HttpRequest> requests;
+    private Class<MODEL> modelType;
+    private Assertions<? super MODEL> assertions;
+    private double arrivalRate;
+    private long durationNanos;
+
+    public LoadTestBuilder(BastionFactory bastionFactory, String message, List<? extends HttpRequest> requests) {
+        Objects.requireNonNull(bastionFactory);
+        Objects.requireNonNull(message);
+        Objects.requireNonNull(requests);
+        requests.forEach(Objects::requireNonNull);
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("A load test needs at least one request");
+        }
+        this.bastionFactory = bastionFactory;
+        this.message = message;
+        this.requests = new ArrayList<>(requests);
+        modelType = null;
+        assertions = Assertions.noAssertions();
+        arrivalRate = 0;
+        durationNanos = 0;
+    }
+
+    /**
+     * Binds the response of every request issued by this load test to the given model type.
+     *
+     * @param modelType The non-{@literal null} model type to bind responses to
+     * @param <T>       The model type to bind responses to
+     * @return This load test, now bound to the given model type (for method chaining)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> LoadTestBuilder<T> bind(Class<T> modelType) {
+        Objects.requireNonNull(modelType);
+        LoadTestBuilder<T> castedBuilder = (LoadTestBuilder<T>) this;
+        castedBuilder.modelType = modelType;
+        return castedBuilder;
+    }
+
+    /**
+     * Sets the assertions which every response is checked against. Responses which fail their assertions are counted as
+     * errors in the load test's report.
+     *
+     * @param assertions The non-{@literal null} assertions to apply to every response
+     * @return This load test (for method chaining)
+     */
+    public LoadTestBuilder<MODEL> withAssertions(Assertions<? super MODEL> assertions) {
+        Objects.requireNonNull(assertions);
+        this.assertions = assertions;
+        return this;
+    }
+
+    /**
+     * Sets the rate at which requests are issued.
+     *
+     * @param requestsPerSecond A positive number of requests to issue every second
+     * @return This load test (for method chaining)
+     */
+    public LoadTestBuilder<MODEL> atArrivalRate(double requestsPerSecond) {
+        if (!(requestsPerSecond > 0) || Double.isInfinite(requestsPerSecond)) {
+            throw new IllegalArgumentException("The arrival rate must be a positive number of requests per second");
+        }
+        arrivalRate = requestsPerSecond;
+        return this;
+    }
+
+    /**
+     * Sets how long requests are issued for. The load test stops issuing requests after this duration and then waits for
+     * the outstanding responses.
+     *
+     * @param duration A positive duration, in the given unit
+     * @param unit     The time unit of the {@code duration}
+     * @return This load test (for method chaining)
+     */
+    public LoadTestBuilder<MODEL> forDuration(long duration, TimeUnit unit) {
+        if (duration <= 0) {
+            throw new IllegalArgumentException("The load test duration must be positive");
+        }
+        durationNanos = unit.toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Runs the load test and waits for every issued request to complete.
+     *
+     * @return The report summarising the load test
+     */
+    public LoadReport run() {
+        if ((arrivalRate <= 0) || (durationNanos <= 0)) {
+            throw new IllegalStateException("Both the arrival rate and the duration must be configured before running a load test");
+        }
+        long intervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / arrivalRate));
+        long requestCount = Math.max(1, durationNanos / intervalNanos);
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+        List<CompletableFuture<?>> pendingRequests = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong issuedRequests = new AtomicLong();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bastion-load-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long startTime = System.nanoTime();
+        scheduler.scheduleAtFixedRate(() -> {
+            long index = issuedRequests.getAndIncrement();
+            if (index >= requestCount) {
+                return;
+            }
+            pendingRequests.add(issueRequest(index, startTime + (index * intervalNanos), latencyRecorder));
+            if (index == (requestCount - 1)) {
+                // Shutting down the scheduler cancels this periodic task.
+                scheduler.shutdown();
+            }
+        }, 0, intervalNanos, TimeUnit.NANOSECONDS);
+        try {
+            while (!scheduler.awaitTermination(1, TimeUnit.SECONDS)) {
+                // Keep waiting until every request has been issued.
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the load test", e);
+        }
+        CompletableFuture.allOf(pendingRequests.toArray(new CompletableFuture<?>[0])).join();
+        return new LoadReport(arrivalRate, System.nanoTime() - startTime, latencyRecorder);
+    }
+
+    private CompletableFuture<?> issueRequest(long index, long intendedSendTime, LatencyRecorder latencyRecorder) {
+        FailureRecordingListener failureListener = new FailureRecordingListener();
+        return startRequest(index, failureListener).handle((executedTest, throwable) -> {
+            // Measuring from the intended send time, rather than the time the request was actually sent, corrects for
+            // coordinated omission: a request delayed by the scheduler or by a backed-up transport still counts the delay.
+            long latency = System.nanoTime() - intendedSendTime;
+            Throwable failure = (throwable instanceof CompletionException) && (throwable.getCause() != null) ? throwable.getCause() : throwable;
+            latencyRecorder.record(latency, (failure != null) || failureListener.getFailure().isPresent());
+            return null;
+        });
+    }
+
+    private CompletableFuture<? extends PostExecutionBuilder<? extends MODEL>> startRequest(long index, FailureRecordingListener failureListener) {
+        try {
+            HttpRequest request = requests.get((int) (index % requests.size()));
+            BastionBuilder<Object> bastion = bastionFactory.getBastion(message.isEmpty() ? ("#" + (index + 1)) : (message + " #" + (index + 1)), request);
+            if (bastion instanceof BastionEventPublisher) {
+                ((BastionEventPublisher) bastion).registerListener(failureListener);
+            }
+            return bindModel(bastion).withAssertions(assertions).callAsync();
+        } catch (Throwable t) {
+            CompletableFuture<PostExecutionBuilder<? extends MODEL>> failedRequest = new CompletableFuture<>();
+            failedRequest.completeExceptionally(t);
+            return failedRequest;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private AssertionsBuilder<? extends MODEL> bindModel(BastionBuilder<Object> bastion) {
+        if (modelType == null) {
+            return (AssertionsBuilder<? extends MODEL>) bastion;
+        }
+        return bastion.bind(modelType);
+    }
+}
@@ -1,27 +1,39 @@
 package rocks.bastion.core.model;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.apache.http.entity.ContentType;
+import rocks.bastion.core.ModelResponse;
 import rocks.bastion.core.Response;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A {@link ResponseDecoder} which will interpret an HTTP response containing JSON content body. This implementation uses
  * the Jackson library's {@link ObjectMapper} to perform the decoding operation.
  * <p>
- * The decoder uses the following strategy when attempting to construct the model object for the response: first, it
- * parses the HTTP response's JSON content into an {@link JsonNode abstract syntax tree representing the given JSON}
- * (known as a JSON tree). Then, if the user has supplied a target model type, it binds the JSON tree into an instance
- * of that type. Otherwise, it immediately returns the decoded JSON tree as an object of type {@link JsonNode}.
+ * If the user has supplied a target model type, the decoder binds the HTTP response's JSON content straight into an
+ * instance of that type, streaming from the response body through an {@link ObjectReader} which is created once per
+ * model type and then reused. Otherwise, it parses the JSON content into an {@link JsonNode abstract syntax tree
+ * representing the given JSON} (known as a JSON tree) and returns the decoded JSON tree as an object of type
+ * {@link JsonNode}. If the content cannot be bound to the target model type, the JSON tree is returned instead.
+ * </p>
+ * <p>
+ * If the response is a {@link ModelResponse}, its {@link ModelResponse#getJsonTree() shared JSON tree} is used instead of
+ * parsing the response body again. The decoded model is then a deep copy of the shared tree, so that callbacks and
+ * assertions which modify the model do not change the JSON tree seen by other assertions.
  * </p>
  */
 public class JsonResponseDecoder implements ResponseDecoder {
 
+    private static final ConcurrentMap<Class<?>, ObjectReader> MODEL_READERS = new ConcurrentHashMap<>();
+
     private static ObjectMapper jsonObjectMapper = null;
 
     @Override
@@ -30,15 +42,19 @@ public class JsonResponseDecoder implements ResponseDecoder {
         if (!supportsContentType(responseContentType)) {
             return Optional.empty();
         }
+        Optional<Object> boundModel = hints.getModelType().flatMap(modelType -> bindModel(response, modelType));
+        if (boundModel.isPresent()) {
+            return boundModel;
+        }
         JsonNode decodedJsonTree;
         try {
-            decodedJsonTree = getObjectMapper().readTree(response.getBody());
+            decodedJsonTree = (response instanceof ModelResponse) ? ((ModelResponse<?>) response).getJsonTree().deepCopy() : getObjectMapper().readTree(response.getBody());
         } catch (JsonProcessingException ignored) {
             return Optional.empty();
         } catch (IOException exception) {
             throw new IllegalStateException("An unexpected error occurred while reading JSON data", exception);
         }
-        return decodeTreeUsingHints(decodedJsonTree, hints);
+        return Optional.of(decodedJsonTree);
     }
 
     private static synchronized ObjectMapper getObjectMapper() {
@@ -48,14 +64,15 @@ public class JsonResponseDecoder implements ResponseDecoder {
         return jsonObjectMapper;
     }
 
-    private Optional<?> decodeTreeUsingHints(TreeNode decodedJsonTree, DecodingHints hints) {
-        return Optional.of(hints.getModelType().<Object>map(modelType -> {
-            try {
-                return getObjectMapper().treeToValue(decodedJsonTree, modelType);
-            } catch (JsonProcessingException ignored) {
-                return null;
-            }
-        }).orElse(decodedJsonTree));
+    private static Optional<Object> bindModel(Response response, Class<?> modelType) {
+        ObjectReader modelReader = MODEL_READERS.computeIfAbsent(modelType, type -> getObjectMapper().reader(type));
+        try (InputStream body = response.getBody()) {
+            return Optional.ofNullable(modelReader.readValue(body));
+        } catch (JsonProcessingException ignored) {
+            return Optional.empty();
+        } catch (IOException exception) {
+            throw new IllegalStateException("An unexpected error occurred while reading JSON data", exception);
+        }
     }
 
     private boolean supportsContentType(ContentType responseContentType) {
@@ -0,0 +1,144 @@
+package rocks.bastion.core.model;
+
+import org.apache.http.entity.ContentType;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the {@link ResponseDecoder}s registered with a Bastion request, indexed by the MIME types of the responses they can
+ * decode. Each decoder is registered against a MIME type pattern, which can be:
+ * <ul>
+ * <li>an exact MIME type, such as {@code application/json};</li>
+ * <li>a type wildcard, such as {@code text/*}, which matches any subtype of the type;</li>
+ * <li>a structured syntax suffix wildcard, such as {@code application/*+json}, which matches any subtype of the type ending
+ * with the suffix, such as {@code application/hal+json};</li>
+ * <li>{@code *}{@code /*}, which matches every response, including responses without a {@code Content-type} header.</li>
+ * </ul>
+ * The decoders which can decode a MIME type are resolved once, the first time a response of that MIME type is decoded,
+ * and are kept in registration order. Responses without a {@code Content-type} header are treated as
+ * {@code text/plain}.
+ * <p>
+ * Each {@link rocks.bastion.core.BastionFactory} builds a single registry, which is shared by all the Bastion requests it
+ * creates, so the decoders for each MIME type are resolved once per factory rather than once per request.
+ */
+public class ResponseDecoderRegistry implements ResponseDecodersRegistrar {
+
+    /**
+     * The MIME type pattern matching every response.
+     */
+    public static final String ANY_MIME_TYPE = "*/*";
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<String, List<ResponseDecoder>> decodersByMimeType = new ConcurrentHashMap<>();
+
+    public ResponseDecoderRegistry() {
+    }
+
+    /**
+     * Constructs a registry containing the same registrations as the given registry. Registering decoders with either
+     * registry afterwards does not affect the other.
+     *
+     * @param registry A non-{@literal null} registry to copy
+     */
+    public ResponseDecoderRegistry(ResponseDecoderRegistry registry) {
+        Objects.requireNonNull(registry);
+        registrations.addAll(registry.registrations);
+    }
+
+    /**
+     * Registers a decoder which will be asked to decode every response, regardless of its MIME type.
+     *
+     * @param decoder A non-{@literal null} response decoder
+     */
+    public void register(ResponseDecoder decoder) {
+        register(decoder, ANY_MIME_TYPE);
+    }
+
+    /**
+     * Registers a decoder which will only be asked to decode responses whose MIME type matches the given pattern.
+     *
+     * @param decoder         A non-{@literal null} response decoder
+     * @param mimeTypePattern A non-{@literal null} MIME type pattern, as described in the class documentation
+     * @throws IllegalArgumentException Thrown if the MIME type pattern is not a valid pattern
+     */
+    public void register(ResponseDecoder decoder, String mimeTypePattern) {
+        Objects.requireNonNull(decoder);
+        Objects.requireNonNull(mimeTypePattern);
+        registrations.add(new Registration(decoder, mimeTypePattern));
+        decodersByMimeType.clear();
+    }
+
+    @Override
+    public void registerModelConverter(ResponseDecoder decoder) {
+        register(decoder);
+    }
+
+    @Override
+    public void registerModelConverter(ResponseDecoder decoder, String mimeTypePattern) {
+        register(decoder, mimeTypePattern);
+    }
+
+    /**
+     * Returns the decoders which should be asked to decode a response with the given content type.
+     *
+     * @param contentType The content type of the response, if it has one
+     * @return The decoders registered against a pattern matching the content type's MIME type, in registration order
+     */
+    public List<ResponseDecoder> getDecoders(Optional<ContentType> contentType) {
+        String mimeType = contentType.orElse(ContentType.DEFAULT_TEXT).getMimeType().toLowerCase(Locale.ENGLISH);
+        return decodersByMimeType.computeIfAbsent(mimeType, this::resolveDecoders);
+    }
+
+    private List<ResponseDecoder> resolveDecoders(String mimeType) {
+        return Collections.unmodifiableList(registrations.stream()
+                                                         .filter(registration -> registration.matches(mimeType))
+                                                         .map(registration -> registration.decoder)
+                                                         .collect(Collectors.toList()));
+    }
+
+    private static final class Registration {
+
+        private final ResponseDecoder decoder;
+        private final String type;
+        private final String subtype;
+
+        private Registration(ResponseDecoder decoder, String mimeTypePattern) {
+            int separatorIndex = mimeTypePattern.indexOf('/');
+            if ((separatorIndex <= 0) || (separatorIndex == mimeTypePattern.length() - 1)) {
+                throw new IllegalArgumentException(String.format("'%s' is not a valid MIME type pattern", mimeTypePattern));
+            }
+            this.decoder = decoder;
+            type = mimeTypePattern.substring(0, separatorIndex).trim().toLowerCase(Locale.ENGLISH);
+            subtype = mimeTypePattern.substring(separatorIndex + 1).trim().toLowerCase(Locale.ENGLISH);
+            if (type.equals("*") && !subtype.equals("*")) {
+                throw new IllegalArgumentException(String.format("'%s' is not a valid MIME type pattern", mimeTypePattern));
+            }
+        }
+
+        private boolean matches(String mimeType) {
+            if (type.equals("*")) {
+                return true;
+            }
+            int separatorIndex = mimeType.indexOf('/');
+            if ((separatorIndex < 0) || !type.equals(mimeType.substring(0, separatorIndex))) {
+                return false;
+            }
+            String mimeSubtype = mimeType.substring(separatorIndex + 1);
+            if (subtype.equals("*")) {
+                return true;
+            }
+            if (subtype.startsWith("*+")) {
+                return mimeSubtype.endsWith(subtype.substring(1));
+            }
+            return subtype.equals(mimeSubtype);
+        }
+    }
+}
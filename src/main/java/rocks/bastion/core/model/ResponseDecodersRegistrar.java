@@ -1,5 +1,7 @@
 package rocks.bastion.core.model;
 
+import java.util.Objects;
+
 /**
  * Responsible for registering {@link ResponseDecoder}s with Bastion instances.
  *
@@ -14,4 +16,26 @@ public interface ResponseDecodersRegistrar {
      */
     void registerModelConverter(ResponseDecoder decoder);
 
+    /**
+     * Registers the specified {@linkplain ResponseDecoder} for use with Bastion, but only for responses whose MIME type matches
+     * the given pattern. Patterns such as {@code application/json}, {@code text/*}, {@code application/*+json} and
+     * {@code *}{@code /*} are supported, as described in {@link ResponseDecoderRegistry}. Decoders registered this way are
+     * not asked to decode responses of any other MIME type.
+     * <p>
+     * The default implementation only supports the {@link ResponseDecoderRegistry#ANY_MIME_TYPE} pattern, for which it
+     * registers the decoder using {@link #registerModelConverter(ResponseDecoder)}. Any other pattern is rejected rather
+     * than ignored, so registrars which can restrict decoders to a MIME type should override this method.
+     *
+     * @param decoder         A non-{@literal null} response decoder object
+     * @param mimeTypePattern A non-{@literal null} MIME type pattern
+     * @throws IllegalArgumentException Thrown by the default implementation if the pattern is not {@code *}{@code /*}
+     */
+    default void registerModelConverter(ResponseDecoder decoder, String mimeTypePattern) {
+        Objects.requireNonNull(mimeTypePattern);
+        if (!mimeTypePattern.trim().equals(ResponseDecoderRegistry.ANY_MIME_TYPE)) {
+            throw new IllegalArgumentException(String.format("This registrar only supports the '%s' MIME type pattern, not '%s'", ResponseDecoderRegistry.ANY_MIME_TYPE, mimeTypePattern));
+        }
+        registerModelConverter(decoder);
+    }
+
 }
@@ -1,12 +1,23 @@
 package rocks.bastion.core.resource;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
+import org.springframework.util.ResourceUtils;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 
 /**
  * <p>
@@ -17,49 +28,122 @@ import java.util.Objects;
  * <p>
  * Internally, this implementation uses the Spring {@link DefaultResourceLoader} class to load resources.
  * </p>
+ * <p>
+ * Loaded content is kept in a process-wide cache, keyed by the resource source string, so that loading the same fixture
+ * many times only reads it once. The cache holds at most {@link #DEFAULT_CONTENT_CACHE_MAXIMUM_BYTES 64 MiB} of content,
+ * by default, and evicts the least recently used resources when it is full. Resources which are modified while the tests
+ * are running will therefore not be reloaded unless the cache is {@link #clearContentCache() cleared}. Large resources
+ * which reside on the file system are read through a memory-mapped buffer instead of being copied through a stream.
+ * </p>
  */
 public class ResourceLoader {
 
+    /**
+     * The maximum size of the content cache, in bytes, unless changed using {@link #setContentCacheMaximumBytes(long)}.
+     */
+    public static final long DEFAULT_CONTENT_CACHE_MAXIMUM_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * File-system resources at least this large, in bytes, are read through a memory-mapped buffer.
+     */
+    public static final long MEMORY_MAPPING_THRESHOLD = 1024 * 1024;
+
+    private static final DefaultResourceLoader SPRING_RESOURCE_LOADER = new DefaultResourceLoader();
+
+    private static volatile Cache<String, String> contentCache = newContentCache(DEFAULT_CONTENT_CACHE_MAXIMUM_BYTES);
+
     private String source;
-    private Resource resource;
     private String resourceContent;
 
     public ResourceLoader(String source) {
         Objects.requireNonNull(source);
         this.source = source;
-        resource = new DefaultResourceLoader().getResource(source);
-        validateResource();
-        byte[] resourceData = getResourceData();
-        resourceContent = new String(resourceData, Charset.defaultCharset());
+        try {
+            resourceContent = contentCache.get(source, this::readResource);
+        } catch (ExecutionException | UncheckedExecutionException exception) {
+            throw Throwables.propagate(exception.getCause());
+        }
     }
 
     public String load() {
         return resourceContent;
     }
 
-    private void validateResource() {
-        requireResourceExists();
-        requireResourceReadable();
+    /**
+     * Returns the hit, miss and eviction counts of the resource content cache, since the cache was created.
+     *
+     * @return A snapshot of the content cache's statistics
+     */
+    public static CacheStats getContentCacheStats() {
+        return contentCache.stats();
     }
 
-    private void requireResourceReadable() {
+    /**
+     * Replaces the resource content cache with an empty cache which holds at most the given amount of content.
+     *
+     * @param maximumBytes A non-negative maximum size of the cache, in bytes. A size of {@code 0} disables caching.
+     */
+    public static void setContentCacheMaximumBytes(long maximumBytes) {
+        if (maximumBytes < 0) {
+            throw new IllegalArgumentException("The content cache maximum size cannot be negative");
+        }
+        contentCache = newContentCache(maximumBytes);
+    }
+
+    /**
+     * Removes all the loaded content from the resource content cache, so that resources are read again the next time they
+     * are loaded.
+     */
+    public static void clearContentCache() {
+        contentCache.invalidateAll();
+    }
+
+    private String readResource() {
+        Resource resource = SPRING_RESOURCE_LOADER.getResource(source);
+        validateResource(resource);
+        return getResourceContent(resource);
+    }
+
+    private void validateResource(Resource resource) {
+        requireResourceExists(resource);
+        requireResourceReadable(resource);
+    }
+
+    private void requireResourceReadable(Resource resource) {
         if (!resource.isReadable()) {
             throw new UnreadableResourceException(source);
         }
     }
 
-    private void requireResourceExists() {
+    private void requireResourceExists(Resource resource) {
         if (!resource.exists()) {
             throw new ResourceNotFoundException(source);
         }
     }
 
-    private byte[] getResourceData() {
+    private static String getResourceContent(Resource resource) {
         try {
-            return ByteStreams.toByteArray(resource.getInputStream());
+            File file = ResourceUtils.isFileURL(resource.getURL()) ? resource.getFile() : null;
+            if ((file != null) && (file.length() >= MEMORY_MAPPING_THRESHOLD)) {
+                try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+                    return Charset.defaultCharset().decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())).toString();
+                }
+            }
+            try (InputStream resourceStream = resource.getInputStream()) {
+                return new String(ByteStreams.toByteArray(resourceStream), Charset.defaultCharset());
+            }
         } catch (IOException exception) {
             throw new IllegalStateException("Cannot read resource data", exception);
         }
     }
 
+    private static Cache<String, String> newContentCache(long maximumBytes) {
+        // Strings hold two bytes per character.
+        return CacheBuilder.newBuilder()
+                           .maximumWeight(maximumBytes)
+                           .<String, String>weigher((source, content) -> (int) Math.min(Integer.MAX_VALUE, 2L * content.length()))
+                           .recordStats()
+                           .build();
+    }
+
 }
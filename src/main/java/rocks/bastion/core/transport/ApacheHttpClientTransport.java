@@ -0,0 +1,247 @@
+package rocks.bastion.core.transport;
+
+import com.google.common.base.Strings;
+import org.apache.http.Header;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import rocks.bastion.core.ApiHeader;
+import rocks.bastion.core.ContentEncoding;
+import rocks.bastion.core.HttpMethod;
+import rocks.bastion.core.RawResponse;
+import rocks.bastion.core.Response;
+import rocks.bastion.core.ResponseBufferSettings;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * An {@link HttpTransport} which sends requests using its own instance of an
+ * <a href="https://hc.apache.org/httpcomponents-client-ga/">Apache HttpClient</a>. Unlike the {@link UnirestHttpTransport},
+ * the underlying client is not shared globally: each instance of this transport can be given a client which was built
+ * with its own connection pool, timeouts and other configuration using the {@link org.apache.http.impl.client.HttpClientBuilder}.
+ * <p>
+ * When constructed using {@link #ApacheHttpClientTransport(ConnectionPoolSettings)}, the transport manages its own pool of
+ * connections and keeps count of how many connections were leased, reused and newly opened. These counters are available
+ * using {@link #getConnectionPoolStatistics()}. Such a transport also sends asynchronous requests on its own pool of
+ * threads, which is as large as the connection pool, so that every pooled connection can be in use at once.
+ * <p>
+ * This transport supports any HTTP method, including custom non-standard ones. Call {@link #close()} to close all the
+ * connections held by this transport when it is no longer needed.
+ */
+public class ApacheHttpClientTransport implements HttpTransport, Closeable {
+
+    private CloseableHttpClient httpClient;
+    private MonitoredConnectionManager connectionManager;
+    private ScheduledExecutorService idleConnectionEvictor;
+    private ExecutorService asyncExecutor;
+    private ResponseBufferSettings responseBufferSettings = new ResponseBufferSettings();
+    private Collection<ContentEncoding> acceptedContentEncodings;
+
+    /**
+     * Constructs a new transport which uses an Apache HttpClient with default configuration.
+     */
+    public ApacheHttpClientTransport() {
+        // The client does not decode responses itself, so the response decodes every content-coding Bastion supports.
+        this(HttpClients.custom().disableContentCompression().build(), EnumSet.allOf(ContentEncoding.class));
+    }
+
+    /**
+     * Constructs a new transport which sends requests using the given Apache HttpClient. Unless content compression was
+     * disabled when building the client, the client decodes gzip and deflate responses itself and rejects any other
+     * content-coding, so only these two content-codings are requested through this transport.
+     *
+     * @param httpClient A non-{@literal null} HTTP client to send requests with
+     */
+    public ApacheHttpClientTransport(CloseableHttpClient httpClient) {
+        this(httpClient, EnumSet.of(ContentEncoding.GZIP, ContentEncoding.DEFLATE));
+    }
+
+    private ApacheHttpClientTransport(CloseableHttpClient httpClient, Collection<ContentEncoding> acceptedContentEncodings) {
+        Objects.requireNonNull(httpClient);
+        this.httpClient = httpClient;
+        this.acceptedContentEncodings = acceptedContentEncodings;
+    }
+
+    /**
+     * Constructs a new transport which sends requests using an Apache HttpClient backed by a connection pool configured
+     * with the given settings.
+     *
+     * @param poolSettings A non-{@literal null} configuration for the connection pool
+     */
+    public ApacheHttpClientTransport(ConnectionPoolSettings poolSettings) {
+        Objects.requireNonNull(poolSettings);
+        acceptedContentEncodings = EnumSet.allOf(ContentEncoding.class);
+        connectionManager = new MonitoredConnectionManager();
+        connectionManager.setMaxTotal(poolSettings.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(poolSettings.getMaxPerRoute());
+        httpClient = HttpClients.custom()
+                                .setConnectionManager(connectionManager)
+                                .disableContentCompression()
+                                .setKeepAliveStrategy(keepAliveStrategy(poolSettings.getKeepAliveMillis()))
+                                .build();
+        if (poolSettings.getIdleEvictionMillis() > 0) {
+            startIdleConnectionEvictor(poolSettings.getIdleEvictionMillis());
+        }
+        asyncExecutor = newAsyncExecutor(poolSettings.getMaxTotal());
+    }
+
+    @Override
+    public Response execute(HttpMethod method, String url, Collection<ApiHeader> headers, String body) throws IOException {
+        RequestBuilder requestBuilder = RequestBuilder.create(method.getValue()).setUri(url);
+        headers.forEach(header -> requestBuilder.addHeader(header.getName(), header.getValue()));
+        if (body != null) {
+            requestBuilder.setEntity(new ByteArrayEntity(body.getBytes(StandardCharsets.UTF_8)));
+        }
+        try (CloseableHttpResponse httpResponse = httpClient.execute(requestBuilder.build())) {
+            return new RawResponse(httpResponse.getStatusLine().getStatusCode(),
+                    Strings.nullToEmpty(httpResponse.getStatusLine().getReasonPhrase()),
+                    convertHeaders(httpResponse.getAllHeaders()),
+                    getBody(httpResponse.getEntity()),
+                    responseBufferSettings);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(HttpMethod method, String url, Collection<ApiHeader> headers, String body) {
+        if (asyncExecutor == null) {
+            return HttpTransport.super.executeAsync(method, url, headers, body);
+        }
+        return BlockingCalls.runOn(asyncExecutor, () -> execute(method, url, headers, body));
+    }
+
+    /**
+     * Configures how the bodies of the responses received by this transport are retained. By default, bodies up to 1 MiB
+     * are held in memory and larger bodies are spilled to a memory-mapped temporary file.
+     *
+     * @param responseBufferSettings A non-{@literal null} configuration for retaining response bodies
+     */
+    public void setResponseBufferSettings(ResponseBufferSettings responseBufferSettings) {
+        Objects.requireNonNull(responseBufferSettings);
+        this.responseBufferSettings = responseBufferSettings;
+    }
+
+    @Override
+    public Collection<ContentEncoding> getAcceptedContentEncodings() {
+        return acceptedContentEncodings;
+    }
+
+    @Override
+    public Optional<ConnectionPoolStatistics> getConnectionPoolStatistics() {
+        if (connectionManager == null) {
+            return Optional.empty();
+        }
+        PoolStats poolStats = connectionManager.getTotalStats();
+        return Optional.of(new ConnectionPoolStatistics(connectionManager.leasedConnections.get(),
+                connectionManager.openedConnections.get(),
+                poolStats.getAvailable(),
+                poolStats.getPending()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (idleConnectionEvictor != null) {
+            idleConnectionEvictor.shutdownNow();
+        }
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdown();
+        }
+        httpClient.close();
+    }
+
+    private void startIdleConnectionEvictor(long idleEvictionMillis) {
+        idleConnectionEvictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bastion-idle-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        idleConnectionEvictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleEvictionMillis, TimeUnit.MILLISECONDS);
+        }, idleEvictionMillis, idleEvictionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Requests beyond the size of the connection pool would only wait for a connection to be released, so they wait in
+     * the executor's queue instead. Idle threads are stopped, so an unused transport does not hold on to any thread.
+     */
+    private static ExecutorService newAsyncExecutor(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "bastion-apache-http-client-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long keepAliveMillis) {
+        return (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return (serverKeepAlive >= 0) ? serverKeepAlive : keepAliveMillis;
+        };
+    }
+
+    private static Collection<ApiHeader> convertHeaders(Header[] headers) {
+        return Arrays.stream(headers).map(header -> new ApiHeader(header.getName(), header.getValue())).collect(Collectors.toList());
+    }
+
+    private static InputStream getBody(HttpEntity entity) throws IOException {
+        if (entity == null) {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+        return entity.getContent();
+    }
+
+    /**
+     * A pooling connection manager which counts every connection leased from the pool and every new connection which
+     * had to be opened to satisfy a lease.
+     */
+    private static class MonitoredConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final AtomicLong leasedConnections = new AtomicLong();
+        private final AtomicLong openedConnections = new AtomicLong();
+
+        @Override
+        public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+            leasedConnections.incrementAndGet();
+            return super.requestConnection(route, state);
+        }
+
+        @Override
+        public void connect(HttpClientConnection managedConn, HttpRoute route, int connectTimeout, HttpContext context) throws IOException {
+            openedConnections.incrementAndGet();
+            super.connect(managedConn, route, connectTimeout, context);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package rocks.bastion.core.transport;
+
+import rocks.bastion.core.Response;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs blocking HTTP requests for the transports which do not support non-blocking I/O. Requests are never run on the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, which only has one thread less than the number of
+ * processors and is shared by the whole JVM, because that would limit how many requests can be in flight at once.
+ */
+final class BlockingCalls {
+
+    /**
+     * Runs each blocking request on its own thread. Threads are reused when they become idle and never prevent the JVM
+     * from exiting.
+     */
+    static final ExecutorService SHARED_EXECUTOR = newExecutor();
+
+    private BlockingCalls() {
+    }
+
+    static CompletableFuture<Response> runOn(Executor executor, Callable<Response> call) {
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                response.complete(call.call());
+            } catch (Throwable throwable) {
+                response.completeExceptionally(throwable);
+            }
+        });
+        return response;
+    }
+
+    private static ExecutorService newExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "bastion-transport-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
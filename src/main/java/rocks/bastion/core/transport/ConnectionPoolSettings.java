@@ -0,0 +1,96 @@
+package rocks.bastion.core.transport;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures the pool of connections kept open by an {@link ApacheHttpClientTransport}. Reusing connections from a pool
+ * avoids paying for a new TCP connection (and TLS handshake) on every request. Use the setters on this class to configure
+ * the pool and pass the settings to the {@link ApacheHttpClientTransport#ApacheHttpClientTransport(ConnectionPoolSettings)}
+ * constructor or to the {@link rocks.bastion.core.BastionFactory#useConnectionPool(ConnectionPoolSettings)} method.
+ * <p>
+ * By default, the pool holds at most 200 connections in total and 20 connections to the same route (ie. the same host
+ * and port). Idle connections are not evicted and connections are kept alive for as long as the server allows.
+ */
+public class ConnectionPoolSettings {
+
+    private int maxTotal = 200;
+    private int maxPerRoute = 20;
+    private long idleEvictionMillis = 0;
+    private long keepAliveMillis = -1;
+
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    /**
+     * Sets the maximum number of connections the pool keeps open across all routes.
+     *
+     * @param maxTotal A positive maximum number of connections
+     * @return This object (for method chaining)
+     */
+    public ConnectionPoolSettings setMaxTotal(int maxTotal) {
+        requirePositive(maxTotal, "The maximum total number of connections must be positive");
+        this.maxTotal = maxTotal;
+        return this;
+    }
+
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of connections the pool keeps open to any single route (ie. the same scheme, host and port).
+     *
+     * @param maxPerRoute A positive maximum number of connections per route
+     * @return This object (for method chaining)
+     */
+    public ConnectionPoolSettings setMaxPerRoute(int maxPerRoute) {
+        requirePositive(maxPerRoute, "The maximum number of connections per route must be positive");
+        this.maxPerRoute = maxPerRoute;
+        return this;
+    }
+
+    public long getIdleEvictionMillis() {
+        return idleEvictionMillis;
+    }
+
+    /**
+     * Sets how long a connection may stay unused in the pool before it is closed by a background thread. A value of
+     * {@code 0} (the default) disables idle eviction.
+     *
+     * @param idleEviction A non-negative duration, in the given unit
+     * @param unit         The time unit of the {@code idleEviction} duration
+     * @return This object (for method chaining)
+     */
+    public ConnectionPoolSettings setIdleEviction(long idleEviction, TimeUnit unit) {
+        if (idleEviction < 0) {
+            throw new IllegalArgumentException("The idle eviction duration cannot be negative");
+        }
+        idleEvictionMillis = unit.toMillis(idleEviction);
+        return this;
+    }
+
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    /**
+     * Sets how long a connection is kept alive, once released back to the pool, when the server does not send a
+     * {@code Keep-Alive} header stating its own timeout. A negative value (the default) keeps such connections alive
+     * indefinitely.
+     *
+     * @param keepAlive The keep-alive duration, in the given unit
+     * @param unit      The time unit of the {@code keepAlive} duration
+     * @return This object (for method chaining)
+     */
+    public ConnectionPoolSettings setKeepAlive(long keepAlive, TimeUnit unit) {
+        keepAliveMillis = (keepAlive < 0) ? -1 : unit.toMillis(keepAlive);
+        return this;
+    }
+
+    private static void requirePositive(int value, String message) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
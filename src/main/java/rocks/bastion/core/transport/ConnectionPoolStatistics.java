@@ -0,0 +1,70 @@
+package rocks.bastion.core.transport;
+
+/**
+ * A snapshot of the connection counters kept by a pooling {@link HttpTransport}. The counters are cumulative since the
+ * transport was created. Every request leases a connection from the pool: the lease is either satisfied by reusing an
+ * open connection or by opening a new one. A high {@link #getReuseRatio() reuse ratio} means that most requests
+ * avoided the cost of connecting (and performing a TLS handshake) to the remote server.
+ */
+public class ConnectionPoolStatistics {
+
+    private long leasedConnections;
+    private long openedConnections;
+    private int availableConnections;
+    private int pendingLeases;
+
+    public ConnectionPoolStatistics(long leasedConnections, long openedConnections, int availableConnections, int pendingLeases) {
+        this.leasedConnections = leasedConnections;
+        this.openedConnections = openedConnections;
+        this.availableConnections = availableConnections;
+        this.pendingLeases = pendingLeases;
+    }
+
+    /**
+     * @return The total number of times a connection was leased from the pool
+     */
+    public long getLeasedConnections() {
+        return leasedConnections;
+    }
+
+    /**
+     * @return The total number of new connections opened to remote servers
+     */
+    public long getOpenedConnections() {
+        return openedConnections;
+    }
+
+    /**
+     * @return The total number of leases which were satisfied by an already open connection
+     */
+    public long getReusedConnections() {
+        return Math.max(0, leasedConnections - openedConnections);
+    }
+
+    /**
+     * @return The fraction, between 0 and 1, of leases which were satisfied by an already open connection
+     */
+    public double getReuseRatio() {
+        return (leasedConnections == 0) ? 0 : ((double) getReusedConnections() / leasedConnections);
+    }
+
+    /**
+     * @return The number of open connections currently idle in the pool
+     */
+    public int getAvailableConnections() {
+        return availableConnections;
+    }
+
+    /**
+     * @return The number of requests currently waiting for a connection to become available
+     */
+    public int getPendingLeases() {
+        return pendingLeases;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("leased=%d, opened=%d, reused=%d, reuseRatio=%.2f, available=%d, pending=%d",
+                leasedConnections, openedConnections, getReusedConnections(), getReuseRatio(), availableConnections, pendingLeases);
+    }
+}
@@ -0,0 +1,27 @@
+package rocks.bastion.core.transport;
+
+/**
+ * The HTTP protocol versions an {@link OkHttpTransport} is allowed to use when talking to remote servers.
+ */
+public enum HttpProtocolMode {
+
+    /**
+     * Always use HTTP/1.1. Concurrent requests to the same host each need their own connection.
+     */
+    HTTP_1_1,
+
+    /**
+     * Use HTTP/2 ("h2") when talking to TLS endpoints which support it, as negotiated using ALPN, and fall back to HTTP/1.1
+     * otherwise. Plain-text {@code http://} requests always use HTTP/1.1. Concurrent requests to the same HTTP/2 host are
+     * multiplexed over a single connection.
+     */
+    HTTP_2,
+
+    /**
+     * Use cleartext HTTP/2 ("h2c") with prior knowledge: requests are sent as HTTP/2 over plain-text {@code http://}
+     * connections without first upgrading from HTTP/1.1. Only use this mode against servers (such as local stubs) which are
+     * known to support h2c. Concurrent requests to the same host are multiplexed over a single connection.
+     */
+    HTTP_2_PRIOR_KNOWLEDGE
+
+}
@@ -0,0 +1,85 @@
+package rocks.bastion.core.transport;
+
+import rocks.bastion.core.ApiHeader;
+import rocks.bastion.core.ContentEncoding;
+import rocks.bastion.core.HttpMethod;
+import rocks.bastion.core.Response;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Sends a fully prepared HTTP request over the wire and returns the received response. The {@link rocks.bastion.core.RequestExecutor}
+ * is responsible for turning a Bastion {@link rocks.bastion.core.HttpRequest} into the parameters given to this interface:
+ * by the time a transport is invoked, route parameters and query parameters have already been resolved into the URL and
+ * the content-type header has already been added to the headers.
+ * <p>
+ * Implementations of this interface are shared by all the Bastion requests built by the same {@link rocks.bastion.core.BastionFactory}
+ * so they must be safe to use from multiple threads. A transport will typically hold on to an underlying HTTP client
+ * which can be tuned (connection pools, timeouts, protocols, etc.) independently of any other transport.
+ */
+public interface HttpTransport {
+
+    /**
+     * Sends the given HTTP request and waits for the remote server's response.
+     *
+     * @param method  The non-{@literal null} HTTP method to use for this request
+     * @param url     The non-{@literal null}, fully resolved URL to send this request on
+     * @param headers The non-{@literal null} collection of HTTP headers to send with this request
+     * @param body    The content body to send with this request. Will be {@literal null} if no body should be sent.
+     * @return The HTTP response retrieved from the remote server
+     * @throws IOException Thrown if the request could not be sent or the response could not be received
+     */
+    Response execute(HttpMethod method, String url, Collection<ApiHeader> headers, String body) throws IOException;
+
+    /**
+     * Sends the given HTTP request without blocking the calling thread. The returned future is completed with the remote
+     * server's response or, if the request could not be sent or the response could not be received, completed exceptionally
+     * with an {@link IOException}.
+     * <p>
+     * The default implementation simply performs the blocking {@link #execute(HttpMethod, String, Collection, String)} method
+     * on a thread of its own, taken from a pool of daemon threads shared by all transports. The number of requests in
+     * flight is therefore not limited by the size of a thread pool such as the {@link ForkJoinPool#commonPool() common pool}.
+     * Transports whose underlying client supports non-blocking I/O should override this method.
+     *
+     * @param method  The non-{@literal null} HTTP method to use for this request
+     * @param url     The non-{@literal null}, fully resolved URL to send this request on
+     * @param headers The non-{@literal null} collection of HTTP headers to send with this request
+     * @param body    The content body to send with this request. Will be {@literal null} if no body should be sent.
+     * @return A future which will be completed with the HTTP response retrieved from the remote server
+     */
+    default CompletableFuture<Response> executeAsync(HttpMethod method, String url, Collection<ApiHeader> headers, String body) {
+        return BlockingCalls.runOn(BlockingCalls.SHARED_EXECUTOR, () -> execute(method, url, headers, body));
+    }
+
+    /**
+     * Returns the counters kept by this transport about the connections in its connection pool. Transports which do not
+     * pool their connections, or which cannot monitor them, return an {@link Optional#empty() empty Optional}, which is
+     * what the default implementation does.
+     *
+     * @return A snapshot of this transport's connection pool counters, if available
+     */
+    default Optional<ConnectionPoolStatistics> getConnectionPoolStatistics() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the content-codings which the {@link rocks.bastion.core.RequestExecutor} may advertise in the
+     * {@code Accept-Encoding} header of requests sent through this transport. The response body is decoded by Bastion
+     * itself (see {@link rocks.bastion.core.RawResponse}) so transports should return the body exactly as it was received,
+     * together with its {@code Content-Encoding} header. A transport whose underlying client already decodes some
+     * content-codings, and rejects any others, should only return those content-codings.
+     * <p>
+     * The default implementation returns all the content-codings known by Bastion.
+     *
+     * @return The content-codings which can be requested through this transport
+     */
+    default Collection<ContentEncoding> getAcceptedContentEncodings() {
+        return EnumSet.allOf(ContentEncoding.class);
+    }
+
+}
@@ -0,0 +1,182 @@
+package rocks.bastion.core.transport;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.Headers;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import rocks.bastion.core.ApiHeader;
+import rocks.bastion.core.HttpMethod;
+import rocks.bastion.core.RawResponse;
+import rocks.bastion.core.Response;
+import rocks.bastion.core.ResponseBufferSettings;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link HttpTransport} which sends requests using an <a href="https://square.github.io/okhttp/">OkHttp</a> client.
+ * This transport can speak HTTP/2, both over TLS ("h2") and in cleartext with prior knowledge ("h2c"), as configured by the
+ * {@link HttpProtocolMode} given to its constructor. When HTTP/2 is used, all the concurrent Bastion requests to the same
+ * host are multiplexed as separate streams over a single connection, which allows many requests to be in flight at once
+ * without opening more connections to the remote server.
+ * <p>
+ * Asynchronous requests (see {@link #executeAsync(HttpMethod, String, Collection, String)}) are queued
+ * on the client's dispatcher. By default, the dispatcher allows {@value #DEFAULT_MAX_CONCURRENT_REQUESTS} requests in flight,
+ * both in total and to the same host. Call {@link #close()} to release the client's threads and connections when this
+ * transport is no longer needed.
+ */
+public class OkHttpTransport implements HttpTransport, Closeable {
+
+    /**
+     * The default maximum number of asynchronous requests this transport will keep in flight at once.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 256;
+
+    private OkHttpClient httpClient;
+    private ResponseBufferSettings responseBufferSettings = new ResponseBufferSettings();
+
+    /**
+     * Constructs a new transport which uses the given HTTP protocol versions.
+     *
+     * @param protocolMode A non-{@literal null} choice of protocol versions which this transport may use
+     */
+    public OkHttpTransport(HttpProtocolMode protocolMode) {
+        this(new OkHttpClient.Builder().protocols(protocolsFor(protocolMode)).dispatcher(defaultDispatcher()).build());
+    }
+
+    /**
+     * Constructs a new transport which sends requests using the given OkHttp client. Use this constructor to tune the client
+     * (timeouts, connection pool, protocols, etc.) beyond what the other constructor provides.
+     *
+     * @param httpClient A non-{@literal null} HTTP client to send requests with
+     */
+    public OkHttpTransport(OkHttpClient httpClient) {
+        Objects.requireNonNull(httpClient);
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public Response execute(HttpMethod method, String url, Collection<ApiHeader> headers, String body) throws IOException {
+        try (okhttp3.Response httpResponse = httpClient.newCall(prepareRequest(method, url, headers, body)).execute()) {
+            return convertToRawResponse(httpResponse);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(HttpMethod method, String url, Collection<ApiHeader> headers, String body) {
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        httpClient.newCall(prepareRequest(method, url, headers, body)).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException exception) {
+                response.completeExceptionally(exception);
+            }
+
+            @Override
+            public void onResponse(Call call, okhttp3.Response httpResponse) {
+                try (okhttp3.Response ignored = httpResponse) {
+                    response.complete(convertToRawResponse(httpResponse));
+                } catch (Throwable throwable) {
+                    response.completeExceptionally(throwable);
+                }
+            }
+        });
+        return response;
+    }
+
+    /**
+     * Configures how the bodies of the responses received by this transport are retained. By default, bodies up to 1 MiB
+     * are held in memory and larger bodies are spilled to a memory-mapped temporary file.
+     *
+     * @param responseBufferSettings A non-{@literal null} configuration for retaining response bodies
+     */
+    public void setResponseBufferSettings(ResponseBufferSettings responseBufferSettings) {
+        Objects.requireNonNull(responseBufferSettings);
+        this.responseBufferSettings = responseBufferSettings;
+    }
+
+    @Override
+    public void close() {
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+    }
+
+    private static Request prepareRequest(HttpMethod method, String url, Collection<ApiHeader> headers, String body) {
+        Request.Builder requestBuilder = new Request.Builder().url(url);
+        headers.forEach(header -> requestBuilder.addHeader(header.getName(), header.getValue()));
+        RequestBody requestBody = null;
+        if (body != null) {
+            requestBody = RequestBody.create(null, body.getBytes(StandardCharsets.UTF_8));
+        } else if (requiresRequestBody(method)) {
+            requestBody = RequestBody.create(null, new byte[0]);
+        }
+        return requestBuilder.method(method.getValue(), requestBody).build();
+    }
+
+    /**
+     * OkHttp rejects requests which use these methods without a body, so an empty body is sent instead.
+     */
+    private static boolean requiresRequestBody(HttpMethod method) {
+        switch (method.getValue()) {
+            case "POST":
+            case "PUT":
+            case "PATCH":
+            case "PROPPATCH":
+            case "REPORT":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private Response convertToRawResponse(okhttp3.Response httpResponse) {
+        ResponseBody responseBody = httpResponse.body();
+        return new RawResponse(httpResponse.code(),
+                httpResponse.message(),
+                convertHeaders(httpResponse.headers()),
+                (responseBody == null) ? new ByteArrayInputStream(new byte[0]) : responseBody.byteStream(),
+                responseBufferSettings);
+    }
+
+    private static Collection<ApiHeader> convertHeaders(Headers headers) {
+        List<ApiHeader> convertedHeaders = new ArrayList<>(headers.size());
+        for (int i = 0; i < headers.size(); i++) {
+            convertedHeaders.add(new ApiHeader(headers.name(i), headers.value(i)));
+        }
+        return convertedHeaders;
+    }
+
+    private static List<Protocol> protocolsFor(HttpProtocolMode protocolMode) {
+        Objects.requireNonNull(protocolMode);
+        switch (protocolMode) {
+            case HTTP_1_1:
+                return Collections.singletonList(Protocol.HTTP_1_1);
+            case HTTP_2:
+                return Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+            case HTTP_2_PRIOR_KNOWLEDGE:
+                return Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE);
+            default:
+                throw new UnsupportedOperationException(String.format("We cannot use the protocol mode %s.", protocolMode));
+        }
+    }
+
+    private static Dispatcher defaultDispatcher() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(DEFAULT_MAX_CONCURRENT_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(DEFAULT_MAX_CONCURRENT_REQUESTS);
+        return dispatcher;
+    }
+}
@@ -0,0 +1,179 @@
+package rocks.bastion.core.transport;
+
+import com.google.common.base.Strings;
+import com.mashape.unirest.http.HttpResponse;
+import com.mashape.unirest.http.Unirest;
+import com.mashape.unirest.http.async.Callback;
+import com.mashape.unirest.http.exceptions.UnirestException;
+import com.mashape.unirest.http.options.Option;
+import com.mashape.unirest.http.options.Options;
+import com.mashape.unirest.http.utils.ClientFactory;
+import com.mashape.unirest.request.BaseRequest;
+import com.mashape.unirest.request.HttpRequestWithBody;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.util.EntityUtils;
+import rocks.bastion.core.ApiHeader;
+import rocks.bastion.core.ContentEncoding;
+import rocks.bastion.core.HttpMethod;
+import rocks.bastion.core.RawResponse;
+import rocks.bastion.core.Response;
+import rocks.bastion.core.ResponseBufferSettings;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * An {@link HttpTransport} which sends requests using the static <a href="http://unirest.io/java.html">Unirest</a> facade.
+ * This is the transport used by Bastion when no other transport is configured. Note that Unirest keeps a single, global
+ * HTTP client so all instances of this transport share the same connections and configuration.
+ * <p>
+ * Synchronous requests are sent through the Apache HttpClient which Unirest wraps, including any client configured using
+ * {@link Unirest#setHttpClient(org.apache.http.client.HttpClient)}, so that response bodies are streamed straight into the
+ * response's buffer as configured by the {@link ResponseBufferSettings}. Asynchronous requests are sent using Unirest's
+ * non-blocking HTTP client so they do not tie up a thread while waiting for the remote server. That client, however,
+ * receives the whole body into a byte array before handing it over, so asynchronous responses are always held on the
+ * heap in full before being buffered; use the {@link ApacheHttpClientTransport} or the {@link OkHttpTransport} for large
+ * responses received asynchronously.
+ */
+public class UnirestHttpTransport implements HttpTransport {
+
+    private ResponseBufferSettings responseBufferSettings = new ResponseBufferSettings();
+
+    @Override
+    public Response execute(HttpMethod method, String url, Collection<ApiHeader> headers, String body) throws IOException {
+        RequestBuilder requestBuilder = RequestBuilder.create(method.getValue()).setUri(url);
+        getDefaultHeaders().forEach((name, value) -> requestBuilder.addHeader(name, String.valueOf(value)));
+        headers.forEach(header -> requestBuilder.addHeader(header.getName(), header.getValue()));
+        if (body != null) {
+            requestBuilder.setEntity(new ByteArrayEntity(body.getBytes(StandardCharsets.UTF_8)));
+        }
+        org.apache.http.HttpResponse httpResponse = ClientFactory.getHttpClient().execute(requestBuilder.build());
+        HttpEntity entity = httpResponse.getEntity();
+        try {
+            return new RawResponse(httpResponse.getStatusLine().getStatusCode(),
+                    Strings.nullToEmpty(httpResponse.getStatusLine().getReasonPhrase()),
+                    Arrays.stream(httpResponse.getAllHeaders()).map(header -> new ApiHeader(header.getName(), header.getValue())).collect(Collectors.toList()),
+                    (entity == null) ? new ByteArrayInputStream(new byte[0]) : entity.getContent(),
+                    responseBufferSettings);
+        } finally {
+            // Releases the connection back to Unirest's pool.
+            EntityUtils.consumeQuietly(entity);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(HttpMethod method, String url, Collection<ApiHeader> headers, String body) {
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        prepareRequest(method, url, headers, body).asBinaryAsync(new Callback<InputStream>() {
+            @Override
+            public void completed(HttpResponse<InputStream> httpResponse) {
+                try {
+                    response.complete(convertToRawResponse(httpResponse));
+                } catch (Throwable throwable) {
+                    response.completeExceptionally(throwable);
+                }
+            }
+
+            @Override
+            public void failed(UnirestException exception) {
+                response.completeExceptionally(new IOException(exception));
+            }
+
+            @Override
+            public void cancelled() {
+                response.completeExceptionally(new CancellationException("The HTTP request was cancelled"));
+            }
+        });
+        return response;
+    }
+
+    /**
+     * Unirest's shared HTTP client decodes gzip and deflate responses itself and rejects any other content-coding, so only
+     * these two content-codings are requested through this transport.
+     */
+    @Override
+    public Collection<ContentEncoding> getAcceptedContentEncodings() {
+        return EnumSet.of(ContentEncoding.GZIP, ContentEncoding.DEFLATE);
+    }
+
+    /**
+     * Configures how the bodies of the responses received by this transport are retained. By default, bodies up to 1 MiB
+     * are held in memory and larger bodies are spilled to a memory-mapped temporary file.
+     *
+     * @param responseBufferSettings A non-{@literal null} configuration for retaining response bodies
+     */
+    public void setResponseBufferSettings(ResponseBufferSettings responseBufferSettings) {
+        Objects.requireNonNull(responseBufferSettings);
+        this.responseBufferSettings = responseBufferSettings;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getDefaultHeaders() {
+        Map<String, Object> defaultHeaders = (Map<String, Object>) Options.getOption(Option.DEFAULT_HEADERS);
+        return (defaultHeaders == null) ? Collections.emptyMap() : defaultHeaders;
+    }
+
+    private static BaseRequest prepareRequest(HttpMethod method, String url, Collection<ApiHeader> headers, String body) {
+        com.mashape.unirest.request.HttpRequest executableHttpRequest = identifyHttpRequest(method, url);
+        headers.forEach(header -> executableHttpRequest.header(header.getName(), header.getValue()));
+        if ((body != null) && (executableHttpRequest instanceof HttpRequestWithBody)) {
+            return ((HttpRequestWithBody) executableHttpRequest).body(body);
+        }
+        return executableHttpRequest;
+    }
+
+    private static com.mashape.unirest.request.HttpRequest identifyHttpRequest(HttpMethod method, String url) {
+        switch (method.getValue()) {
+            case "GET":
+                return Unirest.get(url);
+            case "POST":
+                return Unirest.post(url);
+            case "PATCH":
+                return Unirest.patch(url);
+            case "DELETE":
+                return Unirest.delete(url);
+            case "PUT":
+                return Unirest.put(url);
+            case "OPTIONS":
+                return Unirest.options(url);
+            case "HEAD":
+                return Unirest.head(url);
+            default:
+                throw new UnsupportedOperationException(String.format("We cannot perform a request of type %s.", method.getValue()));
+        }
+    }
+
+    /**
+     * Unirest gunzips the body of a response whose content-coding is exactly {@code gzip} but keeps the response's
+     * {@code Content-Encoding} and {@code Content-Length} headers, so these headers are dropped to stop the
+     * {@link RawResponse} from decoding the body a second time.
+     */
+    private Response convertToRawResponse(HttpResponse<InputStream> httpResponse) {
+        boolean decodedByUnirest = httpResponse.getHeaders().entrySet().stream()
+                                               .filter(header -> header.getKey().equalsIgnoreCase("Content-Encoding"))
+                                               .flatMap(header -> header.getValue().stream())
+                                               .anyMatch(headerValue -> headerValue.trim().equalsIgnoreCase("gzip"));
+        return new RawResponse(httpResponse.getStatus(),
+                httpResponse.getStatusText(),
+                httpResponse.getHeaders().entrySet().stream()
+                            .filter(header -> !decodedByUnirest || !(header.getKey().equalsIgnoreCase("Content-Encoding")
+                                    || header.getKey().equalsIgnoreCase("Content-Length")))
+                            .flatMap(header -> header.getValue().stream().map(headerValue ->
+                                    new ApiHeader(header.getKey(), headerValue))).collect(Collectors.toList()),
+                httpResponse.getBody(),
+                responseBufferSettings);
+    }
+}
@@ -0,0 +1,232 @@
+package rocks.bastion.junit;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import rocks.bastion.core.BastionFactory;
+import rocks.bastion.core.event.*;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * A JUnit Jupiter extension which is the equivalent of the {@link BastionRunner} for JUnit 5. Every Bastion request
+ * performed by a test method is published as a report entry of that test method, which IDEs and build tools display
+ * alongside the test, containing the request's description, its result ({@code passed}, {@code failed} or {@code error})
+ * and how long it took. Failed requests also fail the test method, as usual.
+ * </p>
+ * <p>
+ * The extension works with Jupiter's parallel execution ({@code junit.jupiter.execution.parallel.enabled}): each test
+ * method {@link BastionFactory#openScope(BastionFactory) opens a scope} with its test class's factory on the thread which
+ * runs it, and a request is reported against the test method which was running on the thread which created it, even if
+ * the request is performed asynchronously. The factory is a {@link rocks.bastion.core.DefaultBastionFactory} unless the
+ * test class is annotated with {@link UseBastionFactory}. Annotating a test class with {@link ParallelExecution} limits the
+ * number of its test methods which run at the same time; parallel execution itself must still be enabled using Jupiter's
+ * configuration parameters or its {@code @Execution} annotation.
+ * </p>
+ * <pre>{@code
+ * @ExtendWith(BastionExtension.class)
+ * @Execution(ExecutionMode.CONCURRENT)
+ * @ParallelExecution(threads = 4)
+ * class SushiApiTest { ... }
+ * }</pre>
+ */
+public class BastionExtension implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback, InvocationInterceptor {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(BastionExtension.class);
+    private static final String FACTORY_KEY = "factory";
+    private static final String CONCURRENCY_LIMIT_KEY = "concurrencyLimit";
+    private static final String SCOPE_KEY = "scope";
+    private static final String ENCLOSING_TEST_KEY = "enclosingTest";
+
+    private static final ThreadLocal<ExtensionContext> RUNNING_TEST = new ThreadLocal<>();
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        Class<?> testClass = context.getRequiredTestClass();
+        BastionFactory factory;
+        try {
+            factory = new ReportingBastionFactory(ReportingBastionFactory.createConfiguredFactory(testClass), () -> {
+                ExtensionContext runningTest = RUNNING_TEST.get();
+                return (runningTest == null) ? null : new ReportEntryReporter(runningTest);
+            });
+        } catch (IllegalArgumentException exception) {
+            throw new ExtensionConfigurationException(exception.getMessage(), exception);
+        }
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.put(FACTORY_KEY, factory);
+        ParallelExecution parallelExecution = testClass.getAnnotation(ParallelExecution.class);
+        if (parallelExecution != null) {
+            store.put(CONCURRENCY_LIMIT_KEY, new Semaphore(getConcurrencyLimit(parallelExecution, testClass), true));
+        }
+        // The scope also applies to the methods annotated with @BeforeAll and @AfterAll.
+        store.put(SCOPE_KEY, BastionFactory.openScope(factory));
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        closeScope(context);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        ExtensionContext enclosingTest = RUNNING_TEST.get();
+        if (enclosingTest != null) {
+            store.put(ENCLOSING_TEST_KEY, enclosingTest);
+        }
+        RUNNING_TEST.set(context);
+        // Test methods may run on threads other than the one which runs the class, so each one opens its own scope.
+        store.put(SCOPE_KEY, BastionFactory.openScope(store.get(FACTORY_KEY, BastionFactory.class)));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        try {
+            closeScope(context);
+        } finally {
+            ExtensionContext enclosingTest = context.getStore(NAMESPACE).remove(ENCLOSING_TEST_KEY, ExtensionContext.class);
+            if (enclosingTest == null) {
+                RUNNING_TEST.remove();
+            } else {
+                RUNNING_TEST.set(enclosingTest);
+            }
+        }
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        proceedWithinConcurrencyLimit(invocation, extensionContext);
+    }
+
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        proceedWithinConcurrencyLimit(invocation, extensionContext);
+    }
+
+    @Override
+    public <T> T interceptTestFactoryMethod(Invocation<T> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        return proceedWithinConcurrencyLimit(invocation, extensionContext);
+    }
+
+    private static <T> T proceedWithinConcurrencyLimit(Invocation<T> invocation, ExtensionContext context) throws Throwable {
+        Semaphore concurrencyLimit = context.getStore(NAMESPACE).get(CONCURRENCY_LIMIT_KEY, Semaphore.class);
+        if (concurrencyLimit == null) {
+            return invocation.proceed();
+        }
+        // Jupiter runs tests on a fork-join pool, which can start another thread while this one waits for a permit.
+        ForkJoinPool.managedBlock(new PermitBlocker(concurrencyLimit));
+        try {
+            return invocation.proceed();
+        } finally {
+            concurrencyLimit.release();
+        }
+    }
+
+    private static void closeScope(ExtensionContext context) {
+        BastionFactory.Scope scope = context.getStore(NAMESPACE).remove(SCOPE_KEY, BastionFactory.Scope.class);
+        if (scope != null) {
+            scope.close();
+        }
+    }
+
+    private static int getConcurrencyLimit(ParallelExecution parallelExecution, Class<?> testClass) {
+        if (parallelExecution.threads() < 0) {
+            throw new ExtensionConfigurationException(String.format("The number of threads to run the tests in %s with cannot be negative", testClass.getName()));
+        }
+        return (parallelExecution.threads() == 0) ? Runtime.getRuntime().availableProcessors() : parallelExecution.threads();
+    }
+
+    /**
+     * Acquires a permit to run a test method, blocking until one is available.
+     */
+    private static final class PermitBlocker implements ForkJoinPool.ManagedBlocker {
+
+        private final Semaphore semaphore;
+        private boolean acquired = false;
+
+        private PermitBlocker(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (!acquired) {
+                semaphore.acquire();
+                acquired = true;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            if (!acquired) {
+                acquired = semaphore.tryAcquire();
+            }
+            return acquired;
+        }
+    }
+
+    /**
+     * Publishes a report entry for every call of a single Bastion request. A request's events are fired one after the
+     * other but possibly on different threads, when the request is performed asynchronously.
+     */
+    private static final class ReportEntryReporter implements BastionListener {
+
+        private final ExtensionContext testContext;
+        private volatile long startTime;
+        private volatile String result;
+
+        private ReportEntryReporter(ExtensionContext testContext) {
+            this.testContext = testContext;
+        }
+
+        @Override
+        public void callStarted(BastionStartedEvent event) {
+            result = "passed";
+            startTime = System.nanoTime();
+        }
+
+        @Override
+        public void callFinished(BastionFinishedEvent event) {
+            Map<String, String> entry = new LinkedHashMap<>();
+            entry.put("bastion.request", event.getRequestMessage());
+            entry.put("bastion.result", result);
+            entry.put("bastion.durationMillis", String.valueOf(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+            testContext.publishReportEntry(entry);
+        }
+
+        @Override
+        public void callFailed(BastionFailureEvent event) {
+            result = "failed";
+            throw event.getAssertionError();
+        }
+
+        @Override
+        public void callError(BastionErrorEvent event) {
+            result = "error";
+            Throwable throwable = event.getThrowable();
+            if (throwable instanceof RuntimeException) {
+                throw (RuntimeException) throwable;
+            } else if (throwable instanceof Error) {
+                throw (Error) throwable;
+            } else {
+                throw new RuntimeException(throwable);
+            }
+        }
+    }
+
+}
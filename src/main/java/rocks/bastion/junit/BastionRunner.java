@@ -7,7 +7,6 @@ import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
-import rocks.bastion.core.BastionBuilderImpl;
 import rocks.bastion.core.BastionFactory;
 import rocks.bastion.core.DefaultBastionFactory;
 import rocks.bastion.core.Response;
@@ -18,59 +17,100 @@ import java.io.InputStreamReader;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * <p>
+ * A JUnit runner which reports every Bastion request performed by a test method as a child of that test method's
+ * description, so that IDEs and build tools display each request, and whether its assertions passed, individually.
+ * </p>
+ * <p>
+ * The test method which is running is tracked separately for every thread, so test methods can be run in parallel, either by
+ * this runner itself (see {@link ParallelExecution}) or by external tools such as JUnit's {@code ParallelComputer} or
+ * Surefire's {@code parallel=methods} setting. A Bastion request is reported against the test method which was running on
+ * the thread which created the request, even if the request is later performed asynchronously on another thread. Requests
+ * created on threads which are not running a test method, such as those issued by a load test's scheduler, are still
+ * performed but are not reported individually.
+ * </p>
+ * <p>
+ * Rather than replacing the JVM-wide default {@link BastionFactory}, each runner {@link BastionFactory#openScope(BastionFactory)
+ * opens a scope} with its own factory on the threads running its tests, so test classes which run concurrently do not
+ * interfere with each other. The factory is a {@link DefaultBastionFactory} unless the test class, or one of its
+ * superclasses, is annotated with {@link UseBastionFactory}.
+ * </p>
+ */
 public class BastionRunner extends BlockJUnit4ClassRunner implements BastionListener {
 
-    private Map<FrameworkMethod, Description> methodDescriptions = new ConcurrentHashMap<>();
+    /**
+     * The system property which configures the number of threads used to run the test methods of classes which are not
+     * annotated with {@link ParallelExecution}. When this property is not set, such test methods are run one at a time.
+     */
+    public static final String PARALLELISM_PROPERTY = "bastion.junit.parallelism";
+
+    private static final ThreadLocal<TestCaseReporter> RUNNING_TEST_CASE = new ThreadLocal<>();
 
-    private Description runningTestCase;
+    private Map<FrameworkMethod, Description> methodDescriptions = new ConcurrentHashMap<>();
 
-    private Description runningBastionRequest;
-    private RunNotifier currentNotifier;
+    private final BastionFactory bastionFactory;
 
     public BastionRunner(Class<?> testClass) throws InitializationError {
         super(testClass);
-        BastionFactory.setDefaultBastionFactory(new DefaultBastionFactory() {
-            @Override
-            protected void prepareBastion(BastionBuilderImpl<?> bastion) {
-                registerModelConverters(bastion);
-                bastion.registerListener(BastionRunner.this);
-            }
-        });
+        try {
+            bastionFactory = new ReportingBastionFactory(ReportingBastionFactory.createConfiguredFactory(testClass), () -> {
+                TestCaseReporter runningTestCase = RUNNING_TEST_CASE.get();
+                return (runningTestCase == null) ? null : runningTestCase.newRequestReporter();
+            });
+        } catch (IllegalArgumentException exception) {
+            throw new InitializationError(exception);
+        }
+        int parallelism = getParallelism(testClass);
+        if (parallelism > 1) {
+            setScheduler(new ParallelScheduler(parallelism, testClass.getSimpleName()));
+        }
     }
 
+    /**
+     * Reports the start of a Bastion request against the test method running on the current thread. The runner no longer
+     * needs to be registered as a listener, since every request created by its factory is reported automatically.
+     *
+     * @deprecated Kept for compatibility with code which registers the runner as a listener; will be removed in the next release
+     */
+    @Deprecated
     @Override
     public void callStarted(BastionStartedEvent event) {
-        runningBastionRequest = Description.createTestDescription(runningTestCase.getDisplayName(), event.getRequestMessage());
-        runningTestCase.addChild(runningBastionRequest);
-        currentNotifier.fireTestStarted(runningBastionRequest);
+        requireRunningTestCase().getDeprecatedRequestReporter().callStarted(event);
     }
 
+    /**
+     * @deprecated Kept for compatibility with code which registers the runner as a listener; will be removed in the next release
+     */
+    @Deprecated
     @Override
     public void callFinished(BastionFinishedEvent event) {
-        currentNotifier.fireTestFinished(runningBastionRequest);
+        requireRunningTestCase().getDeprecatedRequestReporter().callFinished(event);
     }
 
+    /**
+     * @deprecated Kept for compatibility with code which registers the runner as a listener; will be removed in the next release
+     */
+    @Deprecated
     @Override
     public void callFailed(BastionFailureEvent event) {
-        currentNotifier.fireTestFailure(new Failure(runningBastionRequest, event.getAssertionError()));
-        Response response = event.getResponse();
-        try {
-            System.err.printf("Response body: %s\n", CharStreams.toString(new InputStreamReader(response.getBody())));
-        } catch (IOException ignored) {
-        }
-        throw event.getAssertionError();
+        requireRunningTestCase().getDeprecatedRequestReporter().callFailed(event);
     }
 
+    /**
+     * @deprecated Kept for compatibility with code which registers the runner as a listener; will be removed in the next release
+     */
+    @Deprecated
     @Override
     public void callError(BastionErrorEvent event) {
-        Throwable throwable = event.getThrowable();
-        currentNotifier.fireTestFailure(new Failure(runningBastionRequest, throwable));
-        if (throwable instanceof RuntimeException) {
-            throw (RuntimeException) throwable;
-        } else if (throwable instanceof Error) {
-            throw (Error) throwable;
-        } else {
-            throw new RuntimeException(throwable);
+        requireRunningTestCase().getDeprecatedRequestReporter().callError(event);
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        // The scope also applies to the class-level methods, such as those annotated with @BeforeClass.
+        try (BastionFactory.Scope ignored = BastionFactory.openScope(bastionFactory)) {
+            super.run(notifier);
         }
     }
 
@@ -86,9 +126,129 @@ public class BastionRunner extends BlockJUnit4ClassRunner implements BastionList
 
     @Override
     protected void runChild(FrameworkMethod method, RunNotifier notifier) {
-        runningTestCase = describeChild(method);
-        currentNotifier = notifier;
-        super.runChild(method, notifier);
+        TestCaseReporter enclosingTestCase = RUNNING_TEST_CASE.get();
+        RUNNING_TEST_CASE.set(new TestCaseReporter(describeChild(method), notifier));
+        // Test methods may run on threads other than the one which runs the class, so each one opens its own scope.
+        try (BastionFactory.Scope ignored = BastionFactory.openScope(bastionFactory)) {
+            super.runChild(method, notifier);
+        } finally {
+            if (enclosingTestCase == null) {
+                RUNNING_TEST_CASE.remove();
+            } else {
+                RUNNING_TEST_CASE.set(enclosingTestCase);
+            }
+        }
+    }
+
+    private static TestCaseReporter requireRunningTestCase() {
+        TestCaseReporter runningTestCase = RUNNING_TEST_CASE.get();
+        if (runningTestCase == null) {
+            throw new IllegalStateException("No test method is running on the current thread");
+        }
+        return runningTestCase;
+    }
+
+    private static int getParallelism(Class<?> testClass) throws InitializationError {
+        ParallelExecution parallelExecution = testClass.getAnnotation(ParallelExecution.class);
+        int parallelism;
+        if (parallelExecution != null) {
+            parallelism = parallelExecution.threads();
+        } else {
+            String parallelismProperty = System.getProperty(PARALLELISM_PROPERTY);
+            if (parallelismProperty == null) {
+                return 1;
+            }
+            try {
+                parallelism = Integer.parseInt(parallelismProperty.trim());
+            } catch (NumberFormatException exception) {
+                throw new InitializationError(String.format("The system property %s must be a number but was '%s'", PARALLELISM_PROPERTY, parallelismProperty));
+            }
+        }
+        if (parallelism < 0) {
+            throw new InitializationError(String.format("The number of threads to run the tests in %s with cannot be negative", testClass.getName()));
+        }
+        return (parallelism == 0) ? Runtime.getRuntime().availableProcessors() : parallelism;
+    }
+
+    /**
+     * Reports the Bastion requests performed by a single run of a test method. The {@link RunNotifier} is safe to use from
+     * many threads, since it serialises the events it delivers to any listener which is not itself thread-safe.
+     */
+    private static final class TestCaseReporter {
+
+        private final Description testCase;
+        private final RunNotifier notifier;
+        private RequestReporter deprecatedRequestReporter;
+
+        private TestCaseReporter(Description testCase, RunNotifier notifier) {
+            this.testCase = testCase;
+            this.notifier = notifier;
+        }
+
+        private RequestReporter newRequestReporter() {
+            return new RequestReporter(this);
+        }
+
+        /**
+         * The reporter for the events delivered directly to the deprecated {@link BastionListener} methods of the runner.
+         */
+        private synchronized RequestReporter getDeprecatedRequestReporter() {
+            if (deprecatedRequestReporter == null) {
+                deprecatedRequestReporter = newRequestReporter();
+            }
+            return deprecatedRequestReporter;
+        }
+    }
+
+    /**
+     * Reports the calls of a single Bastion request as children of the test method which created the request. A request's
+     * events are fired one after the other but possibly on different threads, when the request is performed asynchronously.
+     */
+    private static final class RequestReporter implements BastionListener {
+
+        private final TestCaseReporter testCase;
+        private volatile Description runningBastionRequest;
+
+        private RequestReporter(TestCaseReporter testCase) {
+            this.testCase = testCase;
+        }
+
+        @Override
+        public void callStarted(BastionStartedEvent event) {
+            Description bastionRequest = Description.createTestDescription(testCase.testCase.getDisplayName(), event.getRequestMessage());
+            testCase.testCase.addChild(bastionRequest);
+            runningBastionRequest = bastionRequest;
+            testCase.notifier.fireTestStarted(bastionRequest);
+        }
+
+        @Override
+        public void callFinished(BastionFinishedEvent event) {
+            testCase.notifier.fireTestFinished(runningBastionRequest);
+        }
+
+        @Override
+        public void callFailed(BastionFailureEvent event) {
+            testCase.notifier.fireTestFailure(new Failure(runningBastionRequest, event.getAssertionError()));
+            Response response = event.getResponse();
+            try {
+                System.err.printf("Response body: %s\n", CharStreams.toString(new InputStreamReader(response.getBody())));
+            } catch (IOException ignored) {
+            }
+            throw event.getAssertionError();
+        }
+
+        @Override
+        public void callError(BastionErrorEvent event) {
+            Throwable throwable = event.getThrowable();
+            testCase.notifier.fireTestFailure(new Failure(runningBastionRequest, throwable));
+            if (throwable instanceof RuntimeException) {
+                throw (RuntimeException) throwable;
+            } else if (throwable instanceof Error) {
+                throw (Error) throwable;
+            } else {
+                throw new RuntimeException(throwable);
+            }
+        }
     }
 
 }
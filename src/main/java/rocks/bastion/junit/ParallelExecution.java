@@ -0,0 +1,32 @@
+package rocks.bastion.junit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the {@link BastionRunner} to run the test methods of the annotated class in parallel, using a pool of the given
+ * number of threads. Each test method still runs on a single thread, together with its {@code @Before} and {@code @After}
+ * methods, and the Bastion requests it performs are reported against it. Test methods which run in parallel must not
+ * depend on each other's side-effects, such as a resource created on the server by another test method.
+ * <p>
+ * This annotation takes precedence over the {@link BastionRunner#PARALLELISM_PROPERTY} system property. When the class
+ * uses the {@link BastionExtension} on JUnit Jupiter instead, the annotation limits how many of the class's test methods
+ * Jupiter's parallel execution runs at the same time, but does not enable parallel execution by itself.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ParallelExecution {
+
+    /**
+     * @return The number of threads to run test methods on. A value of {@code 0}, the default, uses one thread for every
+     * processor available to the JVM while a value of {@code 1} runs the test methods one at a time.
+     */
+    int threads() default 0;
+
+}
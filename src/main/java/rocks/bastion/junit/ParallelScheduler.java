@@ -0,0 +1,69 @@
+package rocks.bastion.junit;
+
+import org.junit.runners.model.RunnerScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the children of a JUnit runner on a fixed pool of threads and waits for all of them to complete before the runner
+ * finishes. The runner itself reports the outcome of each child, so the scheduler only rethrows failures which escaped
+ * the runner's reporting. A new pool of threads is started for every run of the runner.
+ */
+class ParallelScheduler implements RunnerScheduler {
+
+    private final int threads;
+    private final String name;
+    private final List<Future<?>> scheduledChildren = new ArrayList<>();
+    private ExecutorService executor;
+
+    ParallelScheduler(int threads, String name) {
+        this.threads = threads;
+        this.name = name;
+    }
+
+    @Override
+    public void schedule(Runnable childStatement) {
+        if (executor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "bastion-runner-" + name + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        scheduledChildren.add(executor.submit(childStatement));
+    }
+
+    @Override
+    public void finished() {
+        try {
+            for (Future<?> scheduledChild : scheduledChildren) {
+                scheduledChild.get();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the tests to finish", exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            scheduledChildren.clear();
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package rocks.bastion.junit;
+
+import rocks.bastion.core.BastionBuilderImpl;
+import rocks.bastion.core.BastionFactory;
+import rocks.bastion.core.DefaultBastionFactory;
+import rocks.bastion.core.HttpRequest;
+import rocks.bastion.core.builder.BastionBuilder;
+import rocks.bastion.core.event.BastionEventPublisher;
+import rocks.bastion.core.event.BastionListener;
+import rocks.bastion.core.transport.HttpTransport;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Decorates the factory configured for a test class so that the builders it returns also report their calls to the test
+ * framework, using a listener created for each builder. Configuration changes made on this factory are applied to the
+ * decorated factory.
+ */
+class ReportingBastionFactory extends BastionFactory {
+
+    private final BastionFactory delegate;
+    private final Supplier<BastionListener> reporters;
+
+    /**
+     * @param delegate  The factory which creates and prepares the builders
+     * @param reporters Creates the listener which reports the calls of a new builder, or returns {@literal null} if the
+     *                  builder's calls should not be reported, such as when it is not created by a running test
+     */
+    ReportingBastionFactory(BastionFactory delegate, Supplier<BastionListener> reporters) {
+        Objects.requireNonNull(delegate);
+        Objects.requireNonNull(reporters);
+        this.delegate = delegate;
+        this.reporters = reporters;
+    }
+
+    /**
+     * Creates the factory configured for the given test class: a {@link DefaultBastionFactory} unless the class, or one
+     * of its superclasses, is annotated with {@link UseBastionFactory}.
+     *
+     * @param testClass The test class to create a factory for
+     * @return A new factory for the test class
+     * @throws IllegalArgumentException If the configured factory class cannot be instantiated
+     */
+    static BastionFactory createConfiguredFactory(Class<?> testClass) {
+        UseBastionFactory useBastionFactory = testClass.getAnnotation(UseBastionFactory.class);
+        if (useBastionFactory == null) {
+            return new DefaultBastionFactory();
+        }
+        try {
+            return useBastionFactory.value().getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot create the Bastion factory %s for %s: the factory must be a public class with a public no-argument constructor",
+                    useBastionFactory.value().getName(), testClass.getName()), exception);
+        }
+    }
+
+    @Override
+    public BastionBuilder<Object> getBastion(String message, HttpRequest request) {
+        BastionBuilder<Object> bastion = delegate.getBastion(message, request);
+        BastionListener reporter = reporters.get();
+        if ((reporter != null) && (bastion instanceof BastionEventPublisher)) {
+            ((BastionEventPublisher) bastion).registerListener(reporter);
+        }
+        return bastion;
+    }
+
+    @Override
+    public void suppressAssertions(boolean suppressAssertions) {
+        delegate.suppressAssertions(suppressAssertions);
+    }
+
+    @Override
+    public void setHttpTransport(HttpTransport httpTransport) {
+        delegate.setHttpTransport(httpTransport);
+    }
+
+    @Override
+    public void setCallExecutor(Executor callExecutor) {
+        delegate.setCallExecutor(callExecutor);
+    }
+
+    @Override
+    protected void prepareBastion(BastionBuilderImpl<?> bastion) {
+        // The builders are prepared by the decorated factory.
+    }
+
+}
@@ -0,0 +1,29 @@
+package rocks.bastion.junit;
+
+import rocks.bastion.core.BastionFactory;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the {@link BastionFactory} which the {@link BastionRunner} uses for the Bastion requests performed by the tests
+ * of the annotated class, such as a factory which registers additional model converters or uses a different HTTP transport.
+ * A new instance of the factory is created for every annotated test class. Since the annotation is inherited, annotating a
+ * common superclass configures the same kind of factory for a whole suite of test classes.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface UseBastionFactory {
+
+    /**
+     * @return A public factory class with a public no-argument constructor
+     */
+    Class<? extends BastionFactory> value();
+
+}
@@ -0,0 +1,88 @@
+package rocks.bastion.junit.sharding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+
+/**
+ * Splits test classes into shards which are expected to take about the same time to run, based on the durations recorded
+ * by a previous run. Classes are assigned longest first, each to the shard with the least expected time so far (the
+ * "longest processing time first" heuristic), which keeps the slowest shard within a third of the best possible split.
+ * Classes without a recorded duration, such as newly added classes, are expected to take the average recorded duration.
+ * Plans are deterministic: the same classes and durations always produce the same shards.
+ */
+public class ShardPlan {
+
+    private List<List<String>> shardClasses;
+    private long[] expectedMillis;
+
+    private ShardPlan(List<List<String>> shardClasses, long[] expectedMillis) {
+        this.shardClasses = shardClasses;
+        this.expectedMillis = expectedMillis;
+    }
+
+    /**
+     * @param testClasses The non-{@literal null} fully-qualified names of the test classes to split
+     * @param durations   The non-{@literal null} durations recorded by a previous run
+     * @param shardCount  The positive number of shards to split the test classes into
+     * @return The plan assigning each test class to a shard
+     */
+    public static ShardPlan create(Collection<String> testClasses, TestDurations durations, int shardCount) {
+        Objects.requireNonNull(testClasses);
+        Objects.requireNonNull(durations);
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("The number of shards must be positive");
+        }
+        List<String> classes = new ArrayList<>(new LinkedHashSet<>(testClasses));
+        long defaultMillis = Math.max(1, Math.round(classes.stream().map(durations::get).filter(OptionalLong::isPresent)
+                                                           .mapToLong(OptionalLong::getAsLong).average().orElse(1)));
+        classes.sort(Comparator.comparingLong((String testClass) -> durations.get(testClass).orElse(defaultMillis)).reversed()
+                               .thenComparing(Comparator.naturalOrder()));
+
+        List<List<String>> shardClasses = new ArrayList<>(shardCount);
+        long[] expectedMillis = new long[shardCount];
+        PriorityQueue<Integer> shardsByLoad = new PriorityQueue<>(shardCount, Comparator.comparingLong((Integer shard) -> expectedMillis[shard])
+                                                                                          .thenComparing(Comparator.naturalOrder()));
+        for (int shard = 0; shard < shardCount; shard++) {
+            shardClasses.add(new ArrayList<>());
+            shardsByLoad.add(shard);
+        }
+        for (String testClass : classes) {
+            int shard = shardsByLoad.poll();
+            shardClasses.get(shard).add(testClass);
+            expectedMillis[shard] += durations.get(testClass).orElse(defaultMillis);
+            shardsByLoad.add(shard);
+        }
+        return new ShardPlan(shardClasses, expectedMillis);
+    }
+
+    /**
+     * @return The number of shards in this plan, some of which may be empty when there are fewer classes than shards
+     */
+    public int getShardCount() {
+        return shardClasses.size();
+    }
+
+    /**
+     * @param shard The index of a shard, starting from {@code 0}
+     * @return The test classes assigned to the shard, longest first
+     */
+    public List<String> getClasses(int shard) {
+        return Collections.unmodifiableList(shardClasses.get(shard));
+    }
+
+    /**
+     * @param shard The index of a shard, starting from {@code 0}
+     * @return The time which the shard's test classes are expected to take, in milliseconds
+     */
+    public long getExpectedMillis(int shard) {
+        return expectedMillis[shard];
+    }
+
+}
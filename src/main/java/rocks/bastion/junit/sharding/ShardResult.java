@@ -0,0 +1,133 @@
+package rocks.bastion.junit.sharding;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * The outcome of running the test classes of a single shard in a {@link ShardWorker}: the number of tests which ran, failed
+ * and were ignored, a description of every failure and the time taken by each test class. Shard results are exchanged
+ * between the worker JVMs and the {@link ShardedTestLauncher} as properties files.
+ */
+public class ShardResult {
+
+    private static final String RUN_COUNT = "runCount";
+    private static final String FAILURE_COUNT = "failureCount";
+    private static final String IGNORE_COUNT = "ignoreCount";
+    private static final String ELAPSED_MILLIS = "elapsedMillis";
+    private static final String FAILURE_PREFIX = "failure.";
+    private static final String DURATION_PREFIX = "duration.";
+
+    private int runCount;
+    private int ignoreCount;
+    private long elapsedMillis;
+    private List<String> failures;
+    private TestDurations durations;
+
+    public ShardResult(int runCount, int ignoreCount, long elapsedMillis, List<String> failures, TestDurations durations) {
+        Objects.requireNonNull(failures);
+        Objects.requireNonNull(durations);
+        this.runCount = runCount;
+        this.ignoreCount = ignoreCount;
+        this.elapsedMillis = elapsedMillis;
+        this.failures = new ArrayList<>(failures);
+        this.durations = durations;
+    }
+
+    /**
+     * @param resultFile The non-{@literal null} file written by {@link #save(Path)}
+     * @return The shard result stored in the file
+     * @throws IOException If the file cannot be read
+     */
+    public static ShardResult load(Path resultFile) throws IOException {
+        Objects.requireNonNull(resultFile);
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(resultFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        int failureCount = Integer.parseInt(properties.getProperty(FAILURE_COUNT, "0"));
+        List<String> failures = new ArrayList<>(failureCount);
+        for (int index = 0; index < failureCount; index++) {
+            failures.add(properties.getProperty(FAILURE_PREFIX + index, ""));
+        }
+        TestDurations durations = new TestDurations();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(DURATION_PREFIX)) {
+                durations.record(name.substring(DURATION_PREFIX.length()), Long.parseLong(properties.getProperty(name)));
+            }
+        }
+        return new ShardResult(Integer.parseInt(properties.getProperty(RUN_COUNT, "0")), Integer.parseInt(properties.getProperty(IGNORE_COUNT, "0")),
+                Long.parseLong(properties.getProperty(ELAPSED_MILLIS, "0")), failures, durations);
+    }
+
+    /**
+     * @param resultFile The non-{@literal null} file to store this shard result in
+     * @throws IOException If the file cannot be written
+     */
+    public void save(Path resultFile) throws IOException {
+        Objects.requireNonNull(resultFile);
+        Properties properties = new Properties();
+        properties.setProperty(RUN_COUNT, String.valueOf(runCount));
+        properties.setProperty(FAILURE_COUNT, String.valueOf(failures.size()));
+        properties.setProperty(IGNORE_COUNT, String.valueOf(ignoreCount));
+        properties.setProperty(ELAPSED_MILLIS, String.valueOf(elapsedMillis));
+        for (int index = 0; index < failures.size(); index++) {
+            properties.setProperty(FAILURE_PREFIX + index, failures.get(index));
+        }
+        durations.asMap().forEach((testClass, millis) -> properties.setProperty(DURATION_PREFIX + testClass, String.valueOf(millis)));
+        try (Writer writer = Files.newBufferedWriter(resultFile, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Bastion shard result");
+        }
+    }
+
+    /**
+     * @return The number of tests which ran in the shard
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * @return The number of tests which failed in the shard
+     */
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    /**
+     * @return The number of tests which were ignored in the shard
+     */
+    public int getIgnoreCount() {
+        return ignoreCount;
+    }
+
+    /**
+     * @return The wall-clock time taken to run all the test classes of the shard, in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * @return A description of every test which failed in the shard, naming the test and its failure message
+     */
+    public List<String> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return The time taken by each test class of the shard
+     */
+    public TestDurations getDurations() {
+        return durations;
+    }
+
+}
@@ -0,0 +1,76 @@
+package rocks.bastion.junit.sharding;
+
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the JUnit 4 test classes of a single shard, one class after the other, and records a {@link ShardResult} with the
+ * time taken by each class. Workers are normally started in their own JVM by the {@link ShardedTestLauncher}, using the
+ * command-line arguments {@code <result file> <class list file>}, where the class list file names one test class per line.
+ */
+public class ShardWorker {
+
+    private ShardWorker() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: ShardWorker <result file> <class list file>");
+            System.exit(2);
+        }
+        List<String> testClasses = new ArrayList<>();
+        for (String line : Files.readAllLines(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty()) {
+                testClasses.add(line.trim());
+            }
+        }
+        ShardResult result = run(testClasses);
+        result.save(Paths.get(args[0]));
+        System.exit(0);
+    }
+
+    /**
+     * Runs the given test classes in the current JVM.
+     *
+     * @param testClasses The non-{@literal null} fully-qualified names of the test classes to run
+     * @return The result of running the test classes. A test class which cannot be loaded is reported as a failure.
+     */
+    public static ShardResult run(List<String> testClasses) {
+        Objects.requireNonNull(testClasses);
+        JUnitCore core = new JUnitCore();
+        TestDurations durations = new TestDurations();
+        List<String> failures = new ArrayList<>();
+        int runCount = 0;
+        int ignoreCount = 0;
+        long shardStartTime = System.nanoTime();
+        for (String testClass : testClasses) {
+            long classStartTime = System.nanoTime();
+            Class<?> loadedClass;
+            try {
+                loadedClass = Class.forName(testClass, false, ShardWorker.class.getClassLoader());
+            } catch (ClassNotFoundException | LinkageError exception) {
+                failures.add(String.format("%s: the test class cannot be loaded: %s", testClass, exception));
+                continue;
+            }
+            Result result = core.run(Request.aClass(loadedClass));
+            runCount += result.getRunCount();
+            ignoreCount += result.getIgnoreCount();
+            for (Failure failure : result.getFailures()) {
+                failures.add(String.format("%s: %s", failure.getTestHeader(), failure.getMessage()));
+            }
+            durations.record(testClass, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - classStartTime));
+        }
+        return new ShardResult(runCount, ignoreCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - shardStartTime), failures, durations);
+    }
+
+}
@@ -0,0 +1,114 @@
+package rocks.bastion.junit.sharding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The merged results of a run of the {@link ShardedTestLauncher}: the totals across all shards, every failure and, for
+ * each shard, how long it was expected to take and how long it actually took.
+ */
+public class ShardedRunReport {
+
+    private ShardPlan plan;
+    private List<ShardResult> shardResults;
+    private List<String> failures;
+    private int runCount;
+    private int ignoreCount;
+
+    /**
+     * @param plan         The plan which the test classes were run with
+     * @param shardResults The result of every shard in the plan, in shard order
+     */
+    public ShardedRunReport(ShardPlan plan, List<ShardResult> shardResults) {
+        Objects.requireNonNull(plan);
+        Objects.requireNonNull(shardResults);
+        if (shardResults.size() != plan.getShardCount()) {
+            throw new IllegalArgumentException("There must be a result for every shard in the plan");
+        }
+        this.plan = plan;
+        this.shardResults = new ArrayList<>(shardResults);
+        failures = new ArrayList<>();
+        for (ShardResult shardResult : shardResults) {
+            runCount += shardResult.getRunCount();
+            ignoreCount += shardResult.getIgnoreCount();
+            failures.addAll(shardResult.getFailures());
+        }
+    }
+
+    /**
+     * @return {@literal true} if no test failed in any shard
+     */
+    public boolean wasSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * @return The number of tests which ran across all shards
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * @return The number of tests which failed across all shards
+     */
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    /**
+     * @return The number of tests which were ignored across all shards
+     */
+    public int getIgnoreCount() {
+        return ignoreCount;
+    }
+
+    /**
+     * @return A description of every test which failed, across all shards
+     */
+    public List<String> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return The plan which the test classes were run with
+     */
+    public ShardPlan getPlan() {
+        return plan;
+    }
+
+    /**
+     * @return The result of every shard, in shard order
+     */
+    public List<ShardResult> getShardResults() {
+        return Collections.unmodifiableList(shardResults);
+    }
+
+    /**
+     * @return The wall-clock time taken by the slowest shard, in milliseconds, which is the time taken by the whole run
+     */
+    public long getElapsedMillis() {
+        return shardResults.stream().mapToLong(ShardResult::getElapsedMillis).max().orElse(0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Bastion sharded run: %d shards, %d tests, %d failures, %d ignored, %d ms%n",
+                plan.getShardCount(), runCount, failures.size(), ignoreCount, getElapsedMillis()));
+        for (int shard = 0; shard < plan.getShardCount(); shard++) {
+            ShardResult shardResult = shardResults.get(shard);
+            report.append(String.format("  Shard %d: %d classes, %d tests, %d failures, %d ms (expected %d ms)%n",
+                    shard + 1, plan.getClasses(shard).size(), shardResult.getRunCount(), shardResult.getFailureCount(),
+                    shardResult.getElapsedMillis(), plan.getExpectedMillis(shard)));
+        }
+        if (!failures.isEmpty()) {
+            report.append(String.format("Failures:%n"));
+            failures.forEach(failure -> report.append(String.format("  %s%n", failure)));
+        }
+        return report.toString();
+    }
+
+}
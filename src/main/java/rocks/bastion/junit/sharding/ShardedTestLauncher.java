@@ -0,0 +1,240 @@
+package rocks.bastion.junit.sharding;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Splits JUnit 4 test classes, such as those run using the {@link rocks.bastion.junit.BastionRunner}, across a number of
+ * worker JVMs which run in parallel, and merges the results of the workers into a single {@link ShardedRunReport report}.
+ * Classes are split using a {@link ShardPlan} which balances the shards by the time each class took in the previous run,
+ * as recorded in a timing file, rather than by the number of classes, so that the slowest shard finishes as early as
+ * possible. Every run updates the timing file with the latest durations.
+ * </p>
+ * <p>
+ * Each worker JVM is started using the same Java installation and classpath as the launcher and writes its output to a
+ * {@code shard-<n>.log} file in the output directory. Since the workers run at the same time, the test classes must not
+ * compete for shared resources, such as a fixed server port.
+ * </p>
+ * <p>
+ * The launcher can also be run from the command line, for example from a build script:
+ * </p>
+ * <pre>
+ * java -cp &lt;test classpath&gt; rocks.bastion.junit.sharding.ShardedTestLauncher --shards 4 --output target/shards \
+ *     --timings bastion-timings.properties target/test-classes
+ * </pre>
+ * <p>
+ * Arguments which are directories are scanned for top-level classes whose names end in {@code Test}, while any other
+ * argument is taken as the fully-qualified name of a test class. The process exits with status {@code 0} if all the tests
+ * passed, {@code 1} if any test failed and {@code 2} if the arguments are invalid.
+ * </p>
+ */
+public class ShardedTestLauncher {
+
+    /**
+     * The name of the timing file, in the output directory, used unless {@link #withTimingFile(Path)} is called.
+     */
+    public static final String DEFAULT_TIMING_FILE_NAME = "bastion-timings.properties";
+
+    private Path outputDirectory;
+    private int shardCount;
+    private Path timingFile;
+    private List<String> jvmArguments;
+
+    public ShardedTestLauncher(Path outputDirectory) {
+        Objects.requireNonNull(outputDirectory);
+        this.outputDirectory = outputDirectory;
+        shardCount = Runtime.getRuntime().availableProcessors();
+        timingFile = outputDirectory.resolve(DEFAULT_TIMING_FILE_NAME);
+        jvmArguments = Collections.emptyList();
+    }
+
+    /**
+     * Sets the number of worker JVMs to split the test classes across. By default, one worker is started for every
+     * processor available to the launcher's JVM.
+     *
+     * @param shardCount A positive number of worker JVMs
+     * @return This launcher (for method chaining)
+     */
+    public ShardedTestLauncher withShards(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("The number of shards must be positive");
+        }
+        this.shardCount = shardCount;
+        return this;
+    }
+
+    /**
+     * Sets the timing file which durations are read from, before the run, and written to, after the run.
+     *
+     * @param timingFile The non-{@literal null} timing file
+     * @return This launcher (for method chaining)
+     */
+    public ShardedTestLauncher withTimingFile(Path timingFile) {
+        Objects.requireNonNull(timingFile);
+        this.timingFile = timingFile;
+        return this;
+    }
+
+    /**
+     * Sets additional arguments to start each worker JVM with, such as system properties or memory settings.
+     *
+     * @param jvmArguments The non-{@literal null} JVM arguments, such as {@code -Xmx512m}
+     * @return This launcher (for method chaining)
+     */
+    public ShardedTestLauncher withJvmArguments(List<String> jvmArguments) {
+        Objects.requireNonNull(jvmArguments);
+        jvmArguments.forEach(Objects::requireNonNull);
+        this.jvmArguments = new ArrayList<>(jvmArguments);
+        return this;
+    }
+
+    /**
+     * Runs the given test classes across the worker JVMs, waits for all of them to finish, updates the timing file and
+     * writes the merged report to a {@code report.txt} file in the output directory.
+     *
+     * @param testClasses The non-{@literal null} fully-qualified names of the test classes to run
+     * @return The merged report of all the shards. A worker JVM which fails to produce a result is reported as a failure.
+     * @throws IOException          If the timing file cannot be read or written, or a worker JVM cannot be started
+     * @throws InterruptedException If interrupted while waiting for the worker JVMs, which are then stopped
+     */
+    public ShardedRunReport run(Collection<String> testClasses) throws IOException, InterruptedException {
+        Objects.requireNonNull(testClasses);
+        Files.createDirectories(outputDirectory);
+        TestDurations durations = TestDurations.load(timingFile);
+        ShardPlan plan = ShardPlan.create(testClasses, durations, shardCount);
+
+        List<Process> workers = new ArrayList<>(shardCount);
+        try {
+            for (int shard = 0; shard < shardCount; shard++) {
+                workers.add(plan.getClasses(shard).isEmpty() ? null : startWorker(shard, plan.getClasses(shard)));
+            }
+            List<ShardResult> shardResults = new ArrayList<>(shardCount);
+            for (int shard = 0; shard < shardCount; shard++) {
+                shardResults.add(awaitWorker(shard, workers.get(shard)));
+            }
+            ShardedRunReport report = new ShardedRunReport(plan, shardResults);
+            shardResults.forEach(shardResult -> durations.recordAll(shardResult.getDurations()));
+            durations.save(timingFile);
+            Files.write(outputDirectory.resolve("report.txt"), report.toString().getBytes(StandardCharsets.UTF_8));
+            return report;
+        } finally {
+            workers.stream().filter(Objects::nonNull).forEach(Process::destroy);
+        }
+    }
+
+    private Process startWorker(int shard, List<String> testClasses) throws IOException {
+        Path classListFile = outputDirectory.resolve(String.format("shard-%d.classes", shard + 1));
+        Files.write(classListFile, testClasses, StandardCharsets.UTF_8);
+        Files.deleteIfExists(getResultFile(shard));
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArguments);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ShardWorker.class.getName());
+        command.add(getResultFile(shard).toString());
+        command.add(classListFile.toString());
+        File logFile = outputDirectory.resolve(String.format("shard-%d.log", shard + 1)).toFile();
+        return new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(logFile).start();
+    }
+
+    private ShardResult awaitWorker(int shard, Process worker) throws IOException, InterruptedException {
+        if (worker == null) {
+            return new ShardResult(0, 0, 0, Collections.emptyList(), new TestDurations());
+        }
+        int exitCode = worker.waitFor();
+        Path resultFile = getResultFile(shard);
+        if ((exitCode != 0) || !Files.exists(resultFile)) {
+            String failure = String.format("Shard %d: the worker JVM exited with status %d without a result, see %s for its output",
+                    shard + 1, exitCode, outputDirectory.resolve(String.format("shard-%d.log", shard + 1)));
+            return new ShardResult(0, 0, 0, Collections.singletonList(failure), new TestDurations());
+        }
+        return ShardResult.load(resultFile);
+    }
+
+    private Path getResultFile(int shard) {
+        return outputDirectory.resolve(String.format("shard-%d.result", shard + 1));
+    }
+
+    /**
+     * Finds the test classes compiled into the given directory: top-level classes whose names end in {@code Test}.
+     *
+     * @param classesDirectory The non-{@literal null} root directory of the compiled classes, such as
+     *                         {@code target/test-classes}
+     * @return The fully-qualified names of the test classes, sorted by name
+     * @throws IOException If the directory cannot be read
+     */
+    public static List<String> findTestClasses(Path classesDirectory) throws IOException {
+        Objects.requireNonNull(classesDirectory);
+        try (Stream<Path> files = Files.walk(classesDirectory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith("Test.class") && !file.getFileName().toString().contains("$"))
+                        .map(file -> {
+                            String relativePath = classesDirectory.relativize(file).toString();
+                            return relativePath.substring(0, relativePath.length() - ".class".length()).replace(File.separatorChar, '.');
+                        })
+                        .sorted()
+                        .collect(Collectors.toList());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        ShardedTestLauncher launcher = null;
+        Integer shards = null;
+        Path timings = null;
+        Path output = Paths.get("target", "bastion-shards");
+        List<String> jvmArguments = new ArrayList<>();
+        List<String> testClasses = new ArrayList<>();
+        try {
+            for (int index = 0; index < args.length; index++) {
+                switch (args[index]) {
+                    case "--shards":
+                        shards = Integer.parseInt(args[++index]);
+                        break;
+                    case "--timings":
+                        timings = Paths.get(args[++index]);
+                        break;
+                    case "--output":
+                        output = Paths.get(args[++index]);
+                        break;
+                    case "--jvm-arg":
+                        jvmArguments.add(args[++index]);
+                        break;
+                    default:
+                        Path path = Paths.get(args[index]);
+                        if (Files.isDirectory(path)) {
+                            testClasses.addAll(findTestClasses(path));
+                        } else {
+                            testClasses.add(args[index]);
+                        }
+                }
+            }
+            launcher = new ShardedTestLauncher(output).withJvmArguments(jvmArguments);
+            if (shards != null) {
+                launcher.withShards(shards);
+            }
+            if (timings != null) {
+                launcher.withTimingFile(timings);
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException exception) {
+            System.err.println("Usage: ShardedTestLauncher [--shards <count>] [--timings <file>] [--output <directory>] [--jvm-arg <argument>]... "
+                    + "<test class or classes directory>...");
+            System.exit(2);
+        }
+        ShardedRunReport report = launcher.run(testClasses);
+        System.out.print(report);
+        System.exit(report.wasSuccessful() ? 0 : 1);
+    }
+
+}
@@ -0,0 +1,119 @@
+package rocks.bastion.junit.sharding;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * The time, in milliseconds, which each test class took to run, as recorded by a previous run of the
+ * {@link ShardedTestLauncher}. Durations are stored in a timing file with one {@code <test class>=<milliseconds>} line per
+ * test class, sorted by class name so that the file can be kept under version control or cached between builds.
+ */
+public class TestDurations {
+
+    private Map<String, Long> durations;
+
+    public TestDurations() {
+        durations = new TreeMap<>();
+    }
+
+    /**
+     * Loads the durations stored in the given timing file.
+     *
+     * @param timingFile The non-{@literal null} timing file to read
+     * @return The durations stored in the file, or no durations at all if the file does not exist
+     * @throws IOException If the file cannot be read
+     * @throws IllegalArgumentException If the file contains a duration which is not a non-negative number
+     */
+    public static TestDurations load(Path timingFile) throws IOException {
+        Objects.requireNonNull(timingFile);
+        TestDurations testDurations = new TestDurations();
+        if (!Files.exists(timingFile)) {
+            return testDurations;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(timingFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        for (String testClass : properties.stringPropertyNames()) {
+            String duration = properties.getProperty(testClass).trim();
+            try {
+                testDurations.record(testClass, Long.parseLong(duration));
+            } catch (IllegalArgumentException exception) {
+                throw new IllegalArgumentException(String.format("The duration '%s' of test class %s in timing file %s is not a non-negative number of milliseconds",
+                        duration, testClass, timingFile), exception);
+            }
+        }
+        return testDurations;
+    }
+
+    /**
+     * Stores these durations in the given timing file, replacing its contents.
+     *
+     * @param timingFile The non-{@literal null} timing file to write
+     * @throws IOException If the file cannot be written
+     */
+    public void save(Path timingFile) throws IOException {
+        Objects.requireNonNull(timingFile);
+        Path directory = timingFile.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        try (Writer writer = Files.newBufferedWriter(timingFile, StandardCharsets.UTF_8)) {
+            writer.write("# Bastion test class durations, in milliseconds\n");
+            for (Map.Entry<String, Long> duration : durations.entrySet()) {
+                writer.write(duration.getKey() + "=" + duration.getValue() + "\n");
+            }
+        }
+    }
+
+    /**
+     * Records how long a test class took to run, replacing any duration previously recorded for it.
+     *
+     * @param testClass The non-{@literal null} fully-qualified name of the test class
+     * @param millis    The non-negative time taken by the test class, in milliseconds
+     */
+    public void record(String testClass, long millis) {
+        Objects.requireNonNull(testClass);
+        if (millis < 0) {
+            throw new IllegalArgumentException("A test class duration cannot be negative");
+        }
+        durations.put(testClass, millis);
+    }
+
+    /**
+     * Records all the durations of the given durations, replacing the durations recorded for the same test classes.
+     *
+     * @param other The non-{@literal null} durations to record
+     */
+    public void recordAll(TestDurations other) {
+        Objects.requireNonNull(other);
+        durations.putAll(other.durations);
+    }
+
+    /**
+     * @param testClass The fully-qualified name of a test class
+     * @return The duration recorded for the test class, in milliseconds, if any
+     */
+    public OptionalLong get(String testClass) {
+        Long duration = durations.get(testClass);
+        return (duration == null) ? OptionalLong.empty() : OptionalLong.of(duration);
+    }
+
+    /**
+     * @return An unmodifiable view of the recorded durations, in milliseconds, keyed and sorted by test class name
+     */
+    public Map<String, Long> asMap() {
+        return Collections.unmodifiableMap(durations);
+    }
+
+}
@@ -18,6 +18,26 @@ public class AssertionsTest {
         assertThat(spy.getCounter()).isEqualTo(4);
     }
 
+    @Test
+    public void and_modelRequiredByEither_requiresModel() throws Exception {
+        Assertions<Object> usesModel = (statusCode, response, model) -> assertThat(model).isEqualTo("model");
+        Assertions<Object> ignoresModel = new Assertions<Object>() {
+            @Override
+            public void execute(int statusCode, ModelResponse<?> response, Object model) {
+                assertThat(model).isNull();
+            }
+
+            @Override
+            public boolean isModelRequired() {
+                return false;
+            }
+        };
+        assertThat(ignoresModel.and(ignoresModel).isModelRequired()).isFalse();
+        assertThat(ignoresModel.and(usesModel).isModelRequired()).isTrue();
+        assertThat(Assertions.noAssertions().isModelRequired()).isFalse();
+        ignoresModel.and(usesModel).execute(200, null, "model");
+    }
+
     private static class Spy {
         private int counter;
 
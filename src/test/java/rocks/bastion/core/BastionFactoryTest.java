@@ -0,0 +1,114 @@
+package rocks.bastion.core;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Test;
+import rocks.bastion.core.model.ResponseDecodersRegistrar;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BastionFactoryTest {
+
+    @Test
+    public void getCurrentBastionFactory_noScope_returnsDefaultFactory() {
+        assertThat(BastionFactory.getCurrentBastionFactory()).isNotNull().isSameAs(BastionFactory.getDefaultBastionFactory());
+    }
+
+    @Test
+    public void openScope_nestedScopes_restoreEnclosingFactoryWhenClosed() {
+        BastionFactory outerFactory = new DefaultBastionFactory();
+        BastionFactory innerFactory = new DefaultBastionFactory();
+        BastionFactory defaultFactory = BastionFactory.getDefaultBastionFactory();
+
+        try (BastionFactory.Scope outerScope = BastionFactory.openScope(outerFactory)) {
+            assertThat(outerScope.getFactory()).isSameAs(outerFactory);
+            assertThat(BastionFactory.getCurrentBastionFactory()).isSameAs(outerFactory);
+            try (BastionFactory.Scope ignored = BastionFactory.openScope(innerFactory)) {
+                assertThat(BastionFactory.getCurrentBastionFactory()).isSameAs(innerFactory);
+            }
+            assertThat(BastionFactory.getCurrentBastionFactory()).isSameAs(outerFactory);
+        }
+
+        assertThat(BastionFactory.getCurrentBastionFactory()).isSameAs(defaultFactory);
+        assertThat(BastionFactory.getDefaultBastionFactory()).isSameAs(defaultFactory);
+    }
+
+    @Test
+    public void openScope_onlyAppliesToCurrentThread() {
+        BastionFactory scopedFactory = new DefaultBastionFactory();
+
+        try (BastionFactory.Scope ignored = BastionFactory.openScope(scopedFactory)) {
+            BastionFactory otherThreadFactory = CompletableFuture.supplyAsync(BastionFactory::getCurrentBastionFactory).join();
+            assertThat(otherThreadFactory).isSameAs(BastionFactory.getDefaultBastionFactory());
+        }
+    }
+
+    @Test
+    public void close_outOfOrder_throwsAndKeepsInnerScope() {
+        BastionFactory innerFactory = new DefaultBastionFactory();
+        BastionFactory.Scope outerScope = BastionFactory.openScope(new DefaultBastionFactory());
+        BastionFactory.Scope innerScope = BastionFactory.openScope(innerFactory);
+        try {
+            assertThatThrownBy(outerScope::close).isInstanceOf(IllegalStateException.class)
+                                                 .hasMessageContaining("reverse order");
+            assertThat(BastionFactory.getCurrentBastionFactory()).isSameAs(innerFactory);
+        } finally {
+            innerScope.close();
+            outerScope.close();
+        }
+        assertThat(BastionFactory.getCurrentBastionFactory()).isSameAs(BastionFactory.getDefaultBastionFactory());
+    }
+
+    @Test
+    public void close_onAnotherThread_throws() {
+        BastionFactory.Scope scope = BastionFactory.openScope(new DefaultBastionFactory());
+        try {
+            assertThatThrownBy(() -> CompletableFuture.runAsync(scope::close).join()).hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            scope.close();
+        }
+    }
+
+    @Test
+    public void close_twice_hasNoEffect() {
+        BastionFactory outerFactory = new DefaultBastionFactory();
+        try (BastionFactory.Scope ignored = BastionFactory.openScope(outerFactory)) {
+            BastionFactory.Scope innerScope = BastionFactory.openScope(new DefaultBastionFactory());
+            innerScope.close();
+            innerScope.close();
+            assertThat(BastionFactory.getCurrentBastionFactory()).isSameAs(outerFactory);
+        }
+    }
+
+    @Test
+    public void getBastion_modelConvertersRegisteredOnceAndNotChangedByBuilders() throws Exception {
+        AtomicInteger registrations = new AtomicInteger();
+        BastionFactory factory = new BastionFactory() {
+            @Override
+            protected void registerModelConverters(ResponseDecodersRegistrar registrar) {
+                registrations.incrementAndGet();
+            }
+
+            @Override
+            protected void prepareBastion(BastionBuilderImpl<?> bastion) {
+            }
+        };
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody("sushi"));
+            server.enqueue(new MockResponse().setBody("sushi"));
+            server.start();
+            BastionBuilderImpl<?> customBastion = (BastionBuilderImpl<?>) factory.getBastion("Custom", GeneralRequest.get(server.url("/sushi").toString()));
+            BastionBuilderImpl<?> plainBastion = (BastionBuilderImpl<?>) factory.getBastion("Plain", GeneralRequest.get(server.url("/sushi").toString()));
+            customBastion.registerModelConverter((response, hints) -> Optional.of("custom"));
+
+            assertThat(customBastion.call().getModel()).isEqualTo("custom");
+            assertThat(plainBastion.call().getModel()).isNull();
+            assertThat(registrations.get()).isEqualTo(1);
+        }
+    }
+}
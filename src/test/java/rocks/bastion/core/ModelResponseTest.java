@@ -0,0 +1,88 @@
+package rocks.bastion.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ModelResponseTest {
+
+    @Test
+    public void getJsonTree_parsesBodyOnce() throws Exception {
+        CountingResponse response = new CountingResponse("{ \"name\": \"sushi\", \"price\": 5.5 }");
+        ModelResponse<Object> modelResponse = new ModelResponse<>(response, null);
+
+        JsonNode tree = modelResponse.getJsonTree();
+        assertThat(tree.get("name").asText()).isEqualTo("sushi");
+        assertThat(modelResponse.getJsonTree()).isSameAs(tree);
+        assertThat(response.bodyReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getJsonTree_wrappedModelResponse_sharesTree() throws Exception {
+        CountingResponse response = new CountingResponse("[1, 2, 3]");
+        ModelResponse<Object> decodingResponse = new ModelResponse<>(response, null);
+        JsonNode tree = decodingResponse.getJsonTree();
+
+        ModelResponse<String> modelResponse = new ModelResponse<>(decodingResponse, "model");
+        assertThat(modelResponse.getJsonTree()).isSameAs(tree);
+        assertThat(modelResponse.getModel()).isEqualTo("model");
+        assertThat(response.bodyReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getJsonTree_invalidJson_throwsOnEveryInvocation() {
+        CountingResponse response = new CountingResponse("{ \"name\": ");
+        ModelResponse<Object> modelResponse = new ModelResponse<>(response, null);
+
+        assertThatThrownBy(modelResponse::getJsonTree).isInstanceOf(JsonProcessingException.class);
+        assertThatThrownBy(modelResponse::getJsonTree).isInstanceOf(JsonProcessingException.class);
+        assertThat(response.bodyReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getModel_lazyModel_decodedOnce() {
+        AtomicInteger decodeCount = new AtomicInteger();
+        ModelResponse<String> modelResponse = ModelResponse.withLazyModel(new CountingResponse("{}"), () -> "model" + decodeCount.incrementAndGet());
+
+        assertThat(decodeCount.get()).isZero();
+        assertThat(modelResponse.getModel()).isEqualTo("model1");
+        assertThat(modelResponse.getModel()).isEqualTo("model1");
+        assertThat(decodeCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getModel_lazyModelFails_throwsOnEveryInvocation() {
+        AtomicInteger decodeCount = new AtomicInteger();
+        ModelResponse<String> modelResponse = ModelResponse.withLazyModel(new CountingResponse("{}"), () -> {
+            decodeCount.incrementAndGet();
+            throw new AssertionError("Could not parse response into model object");
+        });
+
+        assertThatThrownBy(modelResponse::getModel).isInstanceOf(AssertionError.class);
+        assertThatThrownBy(modelResponse::getModel).isInstanceOf(AssertionError.class);
+        assertThat(decodeCount.get()).isEqualTo(1);
+    }
+
+    private static class CountingResponse extends RawResponse {
+
+        private final AtomicInteger bodyReads = new AtomicInteger();
+
+        CountingResponse(String body) {
+            super(200, "OK", Collections.singletonList(new ApiHeader("Content-type", "application/json")), new ByteArrayInputStream(body.getBytes()));
+        }
+
+        @Override
+        public InputStream getBody() {
+            bodyReads.incrementAndGet();
+            return super.getBody();
+        }
+    }
+}
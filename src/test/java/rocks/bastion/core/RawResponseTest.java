@@ -0,0 +1,117 @@
+package rocks.bastion.core;
+
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RawResponseTest {
+
+    @Test
+    public void getBody_smallBody_isHeldInMemory() throws Exception {
+        byte[] content = randomContent(100);
+        RawResponse response = prepare(content, new ResponseBufferSettings());
+        assertThat(response.isBodySpilledToDisk()).describedAs("Body spilled to disk").isFalse();
+        assertThat(response.getBodySize()).describedAs("Body size").isEqualTo(100);
+        assertThat(ByteStreams.toByteArray(response.getBody())).describedAs("Body content").isEqualTo(content);
+    }
+
+    @Test
+    public void getBody_largeBody_isSpilledToDiskAndReplayable() throws Exception {
+        byte[] content = randomContent(100_000);
+        RawResponse response = prepare(content, new ResponseBufferSettings().setInMemoryThreshold(1024));
+        assertThat(response.isBodySpilledToDisk()).describedAs("Body spilled to disk").isTrue();
+        assertThat(response.getBodySize()).describedAs("Body size").isEqualTo(100_000);
+        InputStream firstRead = response.getBody();
+        InputStream secondRead = response.getBody();
+        assertThat(ByteStreams.toByteArray(firstRead)).describedAs("First read of body content").isEqualTo(content);
+        assertThat(ByteStreams.toByteArray(secondRead)).describedAs("Second read of body content").isEqualTo(content);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void construct_bodyLargerThanMaxRetainedSize_exceptionShouldBeThrown() {
+        prepare(randomContent(10_000), new ResponseBufferSettings().setInMemoryThreshold(1024).setMaxRetainedSize(5_000));
+    }
+
+    @Test
+    public void getBody_gzipEncoding_isDecoded() throws Exception {
+        byte[] content = Strings.repeat("{\"name\":\"sushi\"}", 1000).getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream encodedContent = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(encodedContent)) {
+            gzip.write(content);
+        }
+        RawResponse response = prepareEncoded("gzip", encodedContent.toByteArray());
+        assertThat(ByteStreams.toByteArray(response.getBody())).describedAs("Decoded body content").isEqualTo(content);
+        assertThat(response.getBodySize()).describedAs("Decoded body size").isEqualTo(content.length);
+        assertThat(response.getWireBodySize()).describedAs("Wire body size").isEqualTo(encodedContent.size()).isLessThan(content.length);
+    }
+
+    @Test
+    public void getBody_rawDeflateEncoding_isDecoded() throws Exception {
+        byte[] content = "sushi".getBytes(StandardCharsets.UTF_8);
+        RawResponse response = prepareEncoded("deflate", deflate(content, true));
+        assertThat(ByteStreams.toByteArray(response.getBody())).describedAs("Decoded body content").isEqualTo(content);
+    }
+
+    @Test
+    public void getBody_zlibDeflateEncoding_isDecoded() throws Exception {
+        byte[] content = "sushi".getBytes(StandardCharsets.UTF_8);
+        RawResponse response = prepareEncoded("deflate", deflate(content, false));
+        assertThat(ByteStreams.toByteArray(response.getBody())).describedAs("Decoded body content").isEqualTo(content);
+    }
+
+    @Test
+    public void getBody_brotliEncoding_isDecoded() throws Exception {
+        RawResponse response = prepareEncoded("br", new byte[]{0x0b, 0x00, (byte) 0x80, 0x58, 0x03});
+        assertThat(new String(ByteStreams.toByteArray(response.getBody()), StandardCharsets.UTF_8)).describedAs("Decoded body content").isEqualTo("X");
+    }
+
+    @Test
+    public void getBody_unknownEncoding_isKeptAsReceived() throws Exception {
+        byte[] content = randomContent(100);
+        RawResponse response = prepareEncoded("compress", content);
+        assertThat(ByteStreams.toByteArray(response.getBody())).describedAs("Body content").isEqualTo(content);
+        assertThat(response.getWireBodySize()).describedAs("Wire body size").isEqualTo(100);
+    }
+
+    @Test
+    public void getBody_emptyBodyWithEncoding_isEmpty() throws Exception {
+        RawResponse response = prepareEncoded("gzip", new byte[0]);
+        assertThat(response.getBodySize()).describedAs("Body size").isZero();
+    }
+
+    private static RawResponse prepareEncoded(String contentEncoding, byte[] encodedContent) {
+        return new RawResponse(200, "OK", Collections.singletonList(new ApiHeader("Content-Encoding", contentEncoding)),
+                new ByteArrayInputStream(encodedContent));
+    }
+
+    private static byte[] deflate(byte[] content, boolean raw) throws IOException {
+        ByteArrayOutputStream encodedContent = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(encodedContent, new Deflater(Deflater.DEFAULT_COMPRESSION, raw))) {
+            deflater.write(content);
+        }
+        return encodedContent.toByteArray();
+    }
+
+    private static RawResponse prepare(byte[] content, ResponseBufferSettings bufferSettings) {
+        return new RawResponse(200, "OK", Collections.emptyList(), new ByteArrayInputStream(content), bufferSettings);
+    }
+
+    private static byte[] randomContent(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+}
@@ -1,10 +1,42 @@
 package rocks.bastion.core;
 
+import com.google.common.io.CharStreams;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
 import org.junit.Test;
+import rocks.bastion.core.transport.ApacheHttpClientTransport;
+import rocks.bastion.core.transport.ConnectionPoolSettings;
+import rocks.bastion.core.transport.ConnectionPoolStatistics;
+import rocks.bastion.core.transport.HttpProtocolMode;
+import rocks.bastion.core.transport.HttpTransport;
+import rocks.bastion.core.transport.OkHttpTransport;
+import rocks.bastion.core.transport.UnirestHttpTransport;
 import rocks.bastion.support.CreateSushiRequest;
 import rocks.bastion.support.embedded.TestWithEmbeddedServer;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Created by ChiaraFSC on 07/06/2016.
@@ -16,4 +48,185 @@ public class RequestExecutorTest extends TestWithEmbeddedServer {
         Response response = new RequestExecutor(new CreateSushiRequest()).execute();
         assertEquals(201, response.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPostExecute_apacheHttpClientTransport() {
+        Response response = new RequestExecutor(new CreateSushiRequest(), new ApacheHttpClientTransport()).execute();
+        assertEquals(201, response.getStatusCode());
+    }
+
+    @Test
+    public void testGetExecute_routeAndQueryParameters() {
+        GeneralRequest request = GeneralRequest.get(getUrl("/{resource}"));
+        request.addRouteParam("resource", "sushi");
+        request.addQueryParam("name", "happiness");
+        Response response = new RequestExecutor(request, new ApacheHttpClientTransport()).execute();
+        assertEquals(200, response.getStatusCode());
+    }
+
+    @Test
+    public void testGetExecute_repeatedRouteParameter() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody("{}"));
+            server.start();
+            GeneralRequest request = GeneralRequest.get(server.url("/").toString() + "{resource}/{id}/related/{resource}");
+            request.addRouteParam("resource", "sushi");
+            request.addRouteParam("id", "1");
+            new RequestExecutor(request).execute();
+            assertEquals("/sushi/1/related/sushi", server.takeRequest().getPath());
+        }
+    }
+
+    @Test
+    public void testExecute_connectionPool_reusesConnections() throws Exception {
+        try (ApacheHttpClientTransport transport = new ApacheHttpClientTransport(new ConnectionPoolSettings().setMaxPerRoute(1))) {
+            for (int i = 0; i < 3; i++) {
+                new RequestExecutor(GeneralRequest.get(getUrl("/nigiri")), transport).execute();
+            }
+            ConnectionPoolStatistics statistics = transport.getConnectionPoolStatistics().get();
+            assertEquals(3, statistics.getLeasedConnections());
+            assertEquals(1, statistics.getOpenedConnections());
+            assertEquals(2, statistics.getReusedConnections());
+        }
+    }
+
+    @Test
+    public void testPostExecute_okHttpTransport() {
+        try (OkHttpTransport transport = new OkHttpTransport(HttpProtocolMode.HTTP_1_1)) {
+            Response response = new RequestExecutor(new CreateSushiRequest(), transport).execute();
+            assertEquals(201, response.getStatusCode());
+        }
+    }
+
+    @Test
+    public void testExecuteAsync_http2PriorKnowledge_multiplexesOverOneConnection() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.setProtocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+            for (int i = 0; i < 10; i++) {
+                server.enqueue(new MockResponse().setBody("{}"));
+            }
+            server.start();
+            OkHttpClient httpClient = new OkHttpClient.Builder().protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE)).build();
+            try (OkHttpTransport transport = new OkHttpTransport(httpClient)) {
+                List<CompletableFuture<Response>> responses = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    responses.add(new RequestExecutor(GeneralRequest.get(server.url("/sushi").toString()), transport).executeAsync());
+                }
+                for (CompletableFuture<Response> response : responses) {
+                    assertEquals(200, response.get().getStatusCode());
+                }
+                assertEquals(1, httpClient.connectionPool().connectionCount());
+            }
+        }
+    }
+
+    @Test
+    public void testExecuteAsync_blockingTransport_notLimitedByCommonPool() throws Exception {
+        int requestCount = ForkJoinPool.commonPool().getParallelism() + 2;
+        CountDownLatch allRequestsInFlight = new CountDownLatch(requestCount);
+        HttpTransport transport = (method, url, headers, body) -> {
+            allRequestsInFlight.countDown();
+            try {
+                assertTrue(allRequestsInFlight.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            return new RawResponse(200, "OK", Collections.emptyList(), new ByteArrayInputStream(new byte[0]));
+        };
+        List<CompletableFuture<Response>> responses = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            responses.add(new RequestExecutor(GeneralRequest.get("http://localhost/sushi"), transport).executeAsync());
+        }
+        for (CompletableFuture<Response> response : responses) {
+            assertEquals(200, response.get(10, TimeUnit.SECONDS).getStatusCode());
+        }
+    }
+
+    @Test
+    public void testExecuteAsync_connectionPool_sendsAsManyRequestsAsPooledConnections() throws Exception {
+        int requestCount = ForkJoinPool.commonPool().getParallelism() + 2;
+        CountDownLatch allRequestsInFlight = new CountDownLatch(requestCount);
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                    allRequestsInFlight.countDown();
+                    return new MockResponse().setResponseCode(allRequestsInFlight.await(5, TimeUnit.SECONDS) ? 200 : 504);
+                }
+            });
+            server.start();
+            ConnectionPoolSettings poolSettings = new ConnectionPoolSettings().setMaxTotal(requestCount).setMaxPerRoute(requestCount);
+            try (ApacheHttpClientTransport transport = new ApacheHttpClientTransport(poolSettings)) {
+                List<CompletableFuture<Response>> responses = new ArrayList<>();
+                for (int i = 0; i < requestCount; i++) {
+                    responses.add(new RequestExecutor(GeneralRequest.get(server.url("/sushi").toString()), transport).executeAsync());
+                }
+                for (CompletableFuture<Response> response : responses) {
+                    assertEquals(200, response.get(10, TimeUnit.SECONDS).getStatusCode());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testExecute_unirestTransport_streamsLargeBodyToDisk() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            byte[] largeBody = new byte[64 * 1024];
+            Arrays.fill(largeBody, (byte) 'a');
+            server.enqueue(new MockResponse().setBody(new Buffer().write(largeBody)));
+            server.start();
+            UnirestHttpTransport transport = new UnirestHttpTransport();
+            transport.setResponseBufferSettings(new ResponseBufferSettings().setInMemoryThreshold(1024));
+            RawResponse response = (RawResponse) new RequestExecutor(GeneralRequest.get(server.url("/sushi").toString()), transport).execute();
+            assertEquals(200, response.getStatusCode());
+            assertEquals(largeBody.length, response.getBodySize());
+            assertTrue(response.isBodySpilledToDisk());
+        }
+    }
+
+    @Test
+    public void testExecute_unirestTransport_decodesGzipContentEncoding() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            Buffer encodedBody = new Buffer();
+            try (BufferedSink gzip = Okio.buffer(new GzipSink(encodedBody))) {
+                gzip.writeUtf8("{\"name\":\"sushi\"}");
+            }
+            server.enqueue(new MockResponse().setHeader("Content-Encoding", "gzip").setBody(encodedBody));
+            server.start();
+            Response response = new RequestExecutor(GeneralRequest.get(server.url("/sushi").toString()), new UnirestHttpTransport()).execute();
+            assertEquals("{\"name\":\"sushi\"}", CharStreams.toString(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    public void testExecuteAsync_unirestTransport_decodesGzipContentEncoding() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            Buffer encodedBody = new Buffer();
+            try (BufferedSink gzip = Okio.buffer(new GzipSink(encodedBody))) {
+                gzip.writeUtf8("{\"name\":\"sushi\"}");
+            }
+            server.enqueue(new MockResponse().setHeader("Content-Encoding", "gzip").setBody(encodedBody));
+            server.start();
+            Response response = new RequestExecutor(GeneralRequest.get(server.url("/sushi").toString()), new UnirestHttpTransport()).executeAsync().get();
+            assertEquals("{\"name\":\"sushi\"}", CharStreams.toString(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    public void testExecute_negotiatesAndDecodesGzipContentEncoding() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            Buffer encodedBody = new Buffer();
+            try (BufferedSink gzip = Okio.buffer(new GzipSink(encodedBody))) {
+                gzip.writeUtf8("{\"name\":\"sushi\"}");
+            }
+            server.enqueue(new MockResponse().setHeader("Content-Encoding", "gzip").setBody(encodedBody));
+            server.start();
+            try (ApacheHttpClientTransport transport = new ApacheHttpClientTransport()) {
+                Response response = new RequestExecutor(GeneralRequest.get(server.url("/sushi").toString()), transport).execute();
+                RecordedRequest recordedRequest = server.takeRequest();
+                assertEquals("gzip, deflate, br", recordedRequest.getHeader("Accept-Encoding"));
+                assertEquals("{\"name\":\"sushi\"}", CharStreams.toString(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8)));
+            }
+        }
+    }
+}
@@ -34,4 +34,25 @@ public class TemplateContentCompilerTest {
         compiler.getContent();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void compile_sameTemplateTwice_reusesCompiledTemplate() throws Exception {
+        String template = "{ \"cached\": \"{{ value }}\" }";
+        new TemplateContentCompiler(template);
+        long hitCount = TemplateContentCompiler.getTemplateCacheStats().hitCount();
+        TemplateContentCompiler compiler = new TemplateContentCompiler(template);
+        compiler.addVariableAssignment("value", "second");
+        assertThat(compiler.getContent()).isEqualTo("{ \"cached\": \"second\" }");
+        assertThat(TemplateContentCompiler.getTemplateCacheStats().hitCount()).isGreaterThan(hitCount);
+    }
+
+    @Test
+    public void fromResource_sameResourceTwice_reusesCompiledTemplate() throws Exception {
+        String resource = "classpath:/rocks/bastion/core/assertions/test-template-body.json";
+        TemplateContentCompiler first = TemplateContentCompiler.fromResource(resource);
+        long hitCount = TemplateContentCompiler.getTemplateCacheStats().hitCount();
+        TemplateContentCompiler second = TemplateContentCompiler.fromResource(resource);
+        assertThat(second.getTemplate()).isEqualTo(first.getTemplate());
+        assertThat(TemplateContentCompiler.getTemplateCacheStats().hitCount()).isGreaterThan(hitCount);
+    }
+
+}
@@ -89,4 +89,49 @@ public class JsonResponseAssertionsTest {
         Assert.fail("An assertion error should have been thrown by the JSON Response Assertions");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void execute_ignoreArrayOrder_shouldAssertSuccessfully() throws Exception {
+        JsonResponseAssertions assertions = JsonResponseAssertions.fromString(200, "{ \"colours\": [\"red\", \"green\", \"blue\"] }").ignoreArrayOrder();
+        ModelResponse<String> response = TestModelResponse.prepare("{ \"colours\": [\"blue\", \"red\", \"green\"] }");
+        assertions.execute(200, response, response.getModel());
+    }
+
+    @Test
+    public void execute_ignoreArrayOrderMismatches_shouldThrowErrorWithUnmatchedElements() throws Exception {
+        try {
+            JsonResponseAssertions assertions = JsonResponseAssertions.fromString(200, "{ \"colours\": [\"red\", \"green\", \"blue\"] }").ignoreArrayOrder();
+            ModelResponse<String> response = TestModelResponse.prepare("{ \"colours\": [\"blue\", \"yellow\", \"green\"] }");
+            assertions.execute(200, response, response.getModel());
+        } catch (AssertionError assertionError) {
+            Assert.assertEquals("Assertion Failed Message", "Actual response body is not as expected. The array at \"/colours\" does not contain the expected " +
+                    "elements, regardless of their order. Unexpected elements: [\"yellow\"]. Missing elements: [\"red\"].", assertionError.getMessage());
+            return;
+        }
+        Assert.fail("An assertion error should have been thrown by the JSON Response Assertions");
+    }
+
+    @Test
+    public void execute_ignoredWildcardFields_shouldAssertSuccessfully() throws Exception {
+        JsonResponseAssertions assertions = JsonResponseAssertions.fromString(200, "{ \"items\": [{ \"id\": 1, \"updatedAt\": \"a\" }, { \"id\": 2 }], \"updatedAt\": \"b\" }")
+                                                                  .ignoreValuesForProperties("/items/*/id", "**/updatedAt");
+        ModelResponse<String> response = TestModelResponse.prepare("{ \"items\": [{ \"id\": 7, \"updatedAt\": \"c\" }, { \"id\": 8 }], \"updatedAt\": \"d\" }");
+        assertions.execute(200, response, response.getModel());
+    }
+
+    @Test
+    public void execute_ignoredWildcardFieldsMismatch_shouldThrowErrorWithoutIgnoredOperations() throws Exception {
+        try {
+            JsonResponseAssertions assertions = JsonResponseAssertions.fromString(200, "{ \"items\": [{ \"id\": 1, \"name\": \"sashimi\" }] }")
+                                                                      .ignoreValuesForProperties("/items/*/id");
+            ModelResponse<String> response = TestModelResponse.prepare("{ \"items\": [{ \"id\": 7, \"name\": \"nigiri\" }] }");
+            assertions.execute(200, response, response.getModel());
+        } catch (AssertionError assertionError) {
+            Assert.assertEquals("Assertion Failed Message", "Actual response body is not as expected. The following JSON Patch (as per RFC-6902) tells you what " +
+                    "operations you need to perform to transform the actual response body into the expected response body:\n" +
+                    " [{\"op\":\"replace\",\"path\":\"/items/0/name\",\"value\":\"sashimi\"}]", assertionError.getMessage());
+            return;
+        }
+        Assert.fail("An assertion error should have been thrown by the JSON Response Assertions");
+    }
+
+}
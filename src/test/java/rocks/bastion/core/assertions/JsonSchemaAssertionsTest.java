@@ -71,4 +71,37 @@ public class JsonSchemaAssertionsTest {
         assertions.execute(201, response, response.getModel());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void execute_fromResourceWithReferences_shouldAssertSuccessfully() {
+        final JsonSchemaAssertions assertions = JsonSchemaAssertions.fromResource("classpath:/json/schema/sushi_schema.json");
+        ModelResponse<String> response = TestModelResponse.prepare("{ \"id\": 21, \"name\": \"sashimi\", \"price\": 5.6 }");
+        assertions.execute(201, response, response.getModel());
+    }
+
+    @Test
+    public void execute_fromResourceWithReferencesMismatch_assertionErrorShouldBeThrown() {
+        try {
+            final JsonSchemaAssertions assertions = JsonSchemaAssertions.fromResource("classpath:json/schema/sushi_schema.json");
+            ModelResponse<String> response = TestModelResponse.prepare("{ \"id\": 21, \"name\": \"sashimi\", \"price\": -1 }");
+            assertions.execute(201, response, response.getModel());
+        } catch (AssertionError assertionError) {
+            Assert.assertTrue("Assertion Failed Message", assertionError.getMessage().contains("numeric instance is lower than the required minimum"));
+            return;
+        }
+
+        Assert.fail("An assertion error should have been thrown by the JSON Schema Assertions");
+    }
+
+    @Test
+    public void execute_sameSchemaUsedTwice_schemaCompiledOnce() {
+        JsonSchemaAssertions.clearSchemaCache();
+        long initialMissCount = JsonSchemaAssertions.getSchemaCacheStats().missCount();
+        ModelResponse<String> response = TestModelResponse.prepare("{ \"id\": 21, \"name\": \"sashimi\", \"price\": 5.6 }");
+
+        JsonSchemaAssertions.fromResource("classpath:/json/schema/sushi_schema.json").execute(201, response, response.getModel());
+        JsonSchemaAssertions.fromResource("classpath:/json/schema/sushi_schema.json").execute(201, response, response.getModel());
+
+        Assert.assertEquals("Schema cache misses", initialMissCount + 1, JsonSchemaAssertions.getSchemaCacheStats().missCount());
+    }
+
+}
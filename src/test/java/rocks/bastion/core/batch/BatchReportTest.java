@@ -0,0 +1,29 @@
+package rocks.bastion.core.batch;
+
+import org.junit.Test;
+import rocks.bastion.core.GeneralRequest;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class BatchReportTest {
+
+    @Test
+    public void assertAllSucceeded_failures_reportsFirstFailureByOneBasedPosition() {
+        AssertionError firstFailure = new AssertionError("Expected 200");
+        BatchReport<Object> report = new BatchReport<>(Arrays.asList(
+                new BatchResult<>(0, GeneralRequest.get("http://localhost/sushi/1"), null, null, 0),
+                new BatchResult<>(1, GeneralRequest.get("http://localhost/sushi/2"), null, firstFailure, 0),
+                new BatchResult<>(2, GeneralRequest.get("http://localhost/sushi/3"), null, new AssertionError("Expected 201"), 0)), 0);
+        try {
+            report.assertAllSucceeded();
+            fail("Expected the batch report to fail");
+        } catch (AssertionError error) {
+            assertThat(error).hasMessage("2 of 3 batch requests failed (first failure: request #2)");
+            assertThat(error.getCause()).isSameAs(firstFailure);
+        }
+    }
+
+}
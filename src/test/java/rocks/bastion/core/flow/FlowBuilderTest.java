@@ -0,0 +1,139 @@
+package rocks.bastion.core.flow;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import rocks.bastion.Bastion;
+import rocks.bastion.core.BastionFactory;
+import rocks.bastion.core.DefaultBastionFactory;
+import rocks.bastion.core.GeneralRequest;
+import rocks.bastion.core.builder.ExecuteRequestBuilder;
+import rocks.bastion.core.transport.ApacheHttpClientTransport;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FlowBuilderTest {
+
+    private MockWebServer server;
+    private ExecutorService callExecutor;
+    private BastionFactory.Scope factoryScope;
+    private final List<String> receivedPaths = new CopyOnWriteArrayList<>();
+    // The requests for "/left" and "/right" wait for each other, so they only succeed if they are in flight at the same time.
+    private final CountDownLatch concurrentRequests = new CountDownLatch(2);
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                receivedPaths.add(request.getPath());
+                if (request.getPath().equals("/left") || request.getPath().equals("/right")) {
+                    concurrentRequests.countDown();
+                    if (!concurrentRequests.await(5, TimeUnit.SECONDS)) {
+                        return new MockResponse().setResponseCode(504);
+                    }
+                }
+                if (request.getPath().equals("/missing")) {
+                    return new MockResponse().setResponseCode(404);
+                }
+                return new MockResponse().setResponseCode(200).setHeader("Content-Type", "text/plain").setBody(request.getPath().substring(1));
+            }
+        });
+        server.start();
+        DefaultBastionFactory factory = new DefaultBastionFactory();
+        factory.setHttpTransport(new ApacheHttpClientTransport());
+        callExecutor = factory.useThreadPerCallExecutor();
+        factoryScope = BastionFactory.openScope(factory);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        factoryScope.close();
+        callExecutor.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    public void call_independentSteps_runConcurrentlyAndDependentStepReceivesTheirResults() {
+        FlowResults results = Bastion.flow("Diamond")
+                                     .step("join", previous -> get("/join?" + previous.getModel("left", String.class) + "+" + previous.getModel("right", String.class)), "left", "right")
+                                     .step("left", () -> get("/left"))
+                                     .step("right", () -> get("/right"))
+                                     .call();
+
+        assertThat(results.getModel("left", String.class)).isEqualTo("left");
+        assertThat(results.getModel("right", String.class)).isEqualTo("right");
+        assertThat(results.getModel("join", String.class)).isEqualTo("join?left+right");
+        assertThat(results.getResponse("join").getStatusCode()).isEqualTo(200);
+        assertThat(receivedPaths).hasSize(3).endsWith("/join?left+right");
+    }
+
+    @Test
+    public void call_failingStep_skipsDependentsAndRunsIndependentSteps() {
+        FlowBuilder flow = Bastion.flow("Failing")
+                                  .step("missing", () -> get("/missing"))
+                                  .step("afterMissing", previous -> get("/afterMissing"), "missing")
+                                  .step("independent", () -> get("/independent"))
+                                  .step("afterIndependent", previous -> get("/afterIndependent"), "independent");
+
+        assertThatThrownBy(flow::call).isInstanceOf(AssertionError.class);
+        assertThat(receivedPaths).containsOnly("/missing", "/independent", "/afterIndependent");
+    }
+
+    @Test
+    public void call_stepReadsResultOfStepItDoesNotDependOn_fails() {
+        FlowBuilder flow = Bastion.flow("Undeclared")
+                                  .step("first", () -> get("/first"))
+                                  .step("second", previous -> get("/second?" + previous.getModel("first", String.class)));
+
+        assertThatThrownBy(flow::call).isInstanceOf(IllegalArgumentException.class)
+                                      .hasMessageContaining("do not contain the step 'first'");
+    }
+
+    @Test
+    public void call_cyclicDependencies_throws() {
+        FlowBuilder flow = Bastion.flow("Cyclic")
+                                  .step("start", () -> get("/start"))
+                                  .step("first", previous -> get("/first"), "start", "third")
+                                  .step("second", previous -> get("/second"), "first")
+                                  .step("third", previous -> get("/third"), "second");
+
+        assertThatThrownBy(flow::call).isInstanceOf(IllegalArgumentException.class)
+                                      .hasMessage("The dependencies of the steps [first, second, third] of flow 'Cyclic' form a cycle");
+        assertThat(receivedPaths).isEmpty();
+    }
+
+    @Test
+    public void call_unknownDependency_throws() {
+        FlowBuilder flow = Bastion.flow("Unknown").step("first", previous -> get("/first"), "zeroth");
+
+        assertThatThrownBy(flow::call).isInstanceOf(IllegalArgumentException.class)
+                                      .hasMessage("The step 'first' of flow 'Unknown' depends on the step 'zeroth' which does not exist");
+    }
+
+    @Test
+    public void step_duplicateName_throws() {
+        FlowBuilder flow = Bastion.flow("Duplicate").step("first", () -> get("/first"));
+
+        assertThatThrownBy(() -> flow.step("first", () -> get("/again"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ExecuteRequestBuilder<?> get(String path) {
+        return Bastion.request(path, GeneralRequest.get(server.url(path).toString()))
+                      .bind(String.class)
+                      .withAssertions((statusCode, response, model) -> assertThat(statusCode).isEqualTo(200));
+    }
+}
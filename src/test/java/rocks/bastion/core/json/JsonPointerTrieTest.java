@@ -0,0 +1,66 @@
+package rocks.bastion.core.json;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonPointerTrieTest {
+
+    @Test
+    public void matches_literalPointers() {
+        JsonPointerTrie trie = JsonPointerTrie.compile(Arrays.asList("/id", "/items/0/name", "/a~1b"));
+        assertThat(trie.matches("/id")).isTrue();
+        assertThat(trie.matches("/items/0/name")).isTrue();
+        assertThat(trie.matches("/a~1b")).isTrue();
+        assertThat(trie.matches("/items/1/name")).isFalse();
+        assertThat(trie.matches("/id/value")).isFalse();
+        assertThat(trie.matches("")).isFalse();
+    }
+
+    @Test
+    public void matches_wildcard() {
+        JsonPointerTrie trie = JsonPointerTrie.compile(Collections.singleton("/items/*/id"));
+        assertThat(trie.matches("/items/0/id")).isTrue();
+        assertThat(trie.matches("/items/9999/id")).isTrue();
+        assertThat(trie.matches("/items/0/name")).isFalse();
+        assertThat(trie.matches("/items/0/details/id")).isFalse();
+    }
+
+    @Test
+    public void matches_recursiveWildcard() {
+        JsonPointerTrie trie = JsonPointerTrie.compile(Arrays.asList("/**/updatedAt", "/meta/**"));
+        assertThat(trie.matches("/updatedAt")).isTrue();
+        assertThat(trie.matches("/items/3/updatedAt")).isTrue();
+        assertThat(trie.matches("/items/3/owner/updatedAt")).isTrue();
+        assertThat(trie.matches("/items/3/createdAt")).isFalse();
+        assertThat(trie.matches("/meta")).isTrue();
+        assertThat(trie.matches("/meta/page/size")).isTrue();
+    }
+
+    @Test
+    public void walk_states() {
+        JsonPointerTrie trie = JsonPointerTrie.compile(Arrays.asList("/items/*/id", "/items/0/name"));
+        JsonPointerTrie.State items = trie.getRoot().next("items");
+        assertThat(items.next(0).next("name").isMatch()).isTrue();
+        assertThat(items.next(1).next("name").isMatch()).isFalse();
+        assertThat(items.next(1).next("id").isMatch()).isTrue();
+        assertThat(items.nextUnorderedElement().next("id").isMatch()).isTrue();
+        assertThat(items.nextUnorderedElement().next("name").isMatch()).isFalse();
+        assertThat(trie.getRoot().next("other").isDead()).isTrue();
+    }
+
+    @Test
+    public void isEmpty() {
+        assertThat(JsonPointerTrie.EMPTY.isEmpty()).isTrue();
+        assertThat(JsonPointerTrie.compile(Collections.singleton("/id")).isEmpty()).isFalse();
+    }
+
+    @Test
+    public void compile_relativePattern_shouldThrowException() {
+        assertThatThrownBy(() -> JsonPointerTrie.compile(Collections.singleton("id"))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
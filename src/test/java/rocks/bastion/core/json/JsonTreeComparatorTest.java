@@ -0,0 +1,108 @@
+package rocks.bastion.core.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonTreeComparatorTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void matches_reorderedProperties() throws IOException {
+        assertThat(matches("{ \"id\": 1, \"name\": \"sashimi\", \"tags\": [1, 2] }",
+                           "{ \"tags\": [1, 2], \"name\": \"sashimi\", \"id\": 1 }")).isTrue();
+    }
+
+    @Test
+    public void matches_differences() throws IOException {
+        assertThat(matches("{ \"id\": 1 }", "{ \"id\": 2 }")).isFalse();
+        assertThat(matches("{ \"id\": 1 }", "{ \"id\": 1, \"name\": \"sashimi\" }")).isFalse();
+        assertThat(matches("{ \"id\": 1, \"name\": \"sashimi\" }", "{ \"id\": 1 }")).isFalse();
+        assertThat(matches("{ \"tags\": [1, 2] }", "{ \"tags\": [2, 1] }")).isFalse();
+        assertThat(matches("{ \"tags\": [1, 2] }", "{ \"tags\": [1, 2, 3] }")).isFalse();
+    }
+
+    @Test
+    public void matches_ignoredValues() throws IOException {
+        assertThat(matches("{ \"id\": 5, \"name\": \"sashimi\" }", "{ \"id\": 1, \"name\": \"sashimi\" }", "/id")).isTrue();
+        assertThat(matches("{ \"items\": [{ \"id\": 5 }] }", "{ \"items\": [{ \"id\": 1 }] }", "/items/0/id")).isTrue();
+        assertThat(matches("{ \"a/b\": 5 }", "{ \"a/b\": 1 }", "/a~1b")).isTrue();
+        assertThat(matches("{ \"id\": [1] }", "{ \"id\": \"1\" }", "/id")).isTrue();
+    }
+
+    @Test
+    public void matches_ignoredValuesMustStillBePresent() throws IOException {
+        assertThat(matches("{ \"name\": \"sashimi\" }", "{ \"id\": 1, \"name\": \"sashimi\" }", "/id")).isFalse();
+        assertThat(matches("{ \"id\": 1, \"name\": \"sashimi\" }", "{ \"name\": \"sashimi\" }", "/id")).isFalse();
+        assertThat(matches("{ \"id\": { \"value\": 5 } }", "{ \"id\": { \"value\": 1 } }", "/id")).isFalse();
+        assertThat(matches("{ \"id\": 5, \"name\": \"nigiri\" }", "{ \"id\": 1, \"name\": \"sashimi\" }", "/id")).isFalse();
+    }
+
+    @Test
+    public void matches_ignoreArrayOrder_reorderedElements() throws IOException {
+        assertThat(matchesIgnoringArrayOrder("[{ \"id\": 2, \"tags\": [\"b\", \"a\"] }, { \"id\": 1 }, { \"id\": 1 }]",
+                                             "[{ \"id\": 1 }, { \"tags\": [\"a\", \"b\"], \"id\": 2 }, { \"id\": 1 }]")).isTrue();
+    }
+
+    @Test
+    public void matches_ignoreArrayOrder_duplicatesAreCounted() throws IOException {
+        JsonTreeComparator comparator = new JsonTreeComparator(JsonPointerTrie.EMPTY, true);
+        assertThat(comparator.matches(OBJECT_MAPPER.readTree("{ \"ids\": [1, 1, 2] }"), OBJECT_MAPPER.readTree("{ \"ids\": [1, 2, 2] }"))).isFalse();
+        assertThat(comparator.getMismatch()).isEqualTo("The array at \"/ids\" does not contain the expected elements, regardless of their order. " +
+                                                       "Unexpected elements: [1]. Missing elements: [2]");
+    }
+
+    @Test
+    public void matches_ignoreArrayOrder_ignoredElementValues() throws IOException {
+        assertThat(matchesIgnoringArrayOrder("{ \"items\": [{ \"id\": 7, \"name\": \"nigiri\" }, { \"id\": 8, \"name\": \"sashimi\" }] }",
+                                             "{ \"items\": [{ \"id\": 1, \"name\": \"sashimi\" }, { \"id\": 2, \"name\": \"nigiri\" }] }",
+                                             "/items/*/id")).isTrue();
+        assertThat(matchesIgnoringArrayOrder("{ \"items\": [{ \"id\": 7, \"name\": \"nigiri\" }] }",
+                                             "{ \"items\": [{ \"id\": 1, \"name\": \"sashimi\" }] }",
+                                             "/items/*/id")).isFalse();
+    }
+
+    @Test
+    public void getMismatch_describesFirstDifference() throws IOException {
+        JsonTreeComparator comparator = new JsonTreeComparator(JsonPointerTrie.EMPTY);
+        assertThat(comparator.matches(OBJECT_MAPPER.readTree("{ \"a\": { \"b\": 1 } }"), OBJECT_MAPPER.readTree("{ \"a\": { \"b\": 2 } }"))).isFalse();
+        assertThat(comparator.getMismatch()).isEqualTo("The value at \"/a/b\" is 1 but was expected to be 2");
+        assertThat(comparator.matches(OBJECT_MAPPER.readTree("{ \"a\": 1 }"), OBJECT_MAPPER.readTree("{ \"a\": 1 }"))).isTrue();
+        assertThat(comparator.getMismatch()).isNull();
+    }
+
+    @Test
+    public void matches_wildcardIgnoredValues() throws IOException {
+        StringBuilder actual = new StringBuilder("{ \"items\": [");
+        StringBuilder expected = new StringBuilder("{ \"items\": [");
+        for (int index = 0; index < 10_000; index++) {
+            String separator = (index == 0) ? "" : ", ";
+            actual.append(separator).append(format("{ \"id\": %d, \"meta\": { \"updatedAt\": \"2017-01-%02d\" } }", index, index % 28 + 1));
+            expected.append(separator).append(format("{ \"id\": %d, \"meta\": { \"updatedAt\": \"2016-01-01\" } }", index));
+        }
+        actual.append("] }");
+        expected.append("] }");
+        assertThat(matches(actual.toString(), expected.toString(), "/**/updatedAt")).isTrue();
+        assertThat(matches(actual.toString(), expected.toString(), "/items/*/meta/updatedAt")).isTrue();
+        assertThat(matches(actual.toString(), expected.toString(), "/items/*/id")).isFalse();
+    }
+
+    private static boolean matchesIgnoringArrayOrder(String actualJson, String expectedJson, String... ignoredPointers) throws IOException {
+        return new JsonTreeComparator(JsonPointerTrie.compile(Arrays.asList(ignoredPointers)), true).matches(OBJECT_MAPPER.readTree(actualJson), OBJECT_MAPPER.readTree(expectedJson));
+    }
+
+    private static boolean matches(String actualJson, String expectedJson, String... ignoredPointers) throws IOException {
+        JsonNode actual = OBJECT_MAPPER.readTree(actualJson);
+        JsonNode expected = OBJECT_MAPPER.readTree(expectedJson);
+        boolean matches = new JsonTreeComparator(JsonPointerTrie.compile(Arrays.asList(ignoredPointers))).matches(actual, expected);
+        assertThat(new JsonTreeComparator(JsonPointerTrie.EMPTY).matches(actual, expected)).isEqualTo(actual.equals(expected));
+        return matches;
+    }
+}
@@ -0,0 +1,74 @@
+package rocks.bastion.core.load;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getValueAtPercentile_uniformValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.recordValue(value * 1000);
+        }
+        assertThat(histogram.getTotalCount()).isEqualTo(100_000);
+        assertThat(histogram.getValueAtPercentile(50)).isCloseTo(50_000_000L, within(50_000L));
+        assertThat(histogram.getValueAtPercentile(90)).isCloseTo(90_000_000L, within(90_000L));
+        assertThat(histogram.getValueAtPercentile(99)).isCloseTo(99_000_000L, within(99_000L));
+        assertThat(histogram.getValueAtPercentile(99.9)).isCloseTo(99_900_000L, within(99_900L));
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(100_000_000L);
+        assertThat(histogram.getMaxValue()).isEqualTo(100_000_000L);
+        assertThat(histogram.getMinValue()).isEqualTo(1000L);
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(3);
+        histogram.recordValue(7);
+        histogram.recordValue(1500);
+        assertThat(histogram.getValueAtPercentile(0)).isEqualTo(3);
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo(7);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(1500);
+    }
+
+    @Test
+    public void getValueAtPercentile_empty() {
+        assertThat(new LatencyHistogram().getValueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    public void add_mergesHistograms() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            first.recordValue(1_000_000);
+        }
+        second.recordValue(5_000_000_000L);
+        first.add(second);
+        assertThat(first.getTotalCount()).isEqualTo(100);
+        assertThat(first.getValueAtPercentile(99)).isCloseTo(1_000_000L, within(1_000L));
+        assertThat(first.getValueAtPercentile(99.9)).isEqualTo(5_000_000_000L);
+        assertThat(first.getMaxValue()).isEqualTo(5_000_000_000L);
+    }
+
+    @Test
+    public void recordValueWithExpectedInterval_backFillsMissedSamples() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValueWithExpectedInterval(50, 10);
+        assertThat(histogram.getTotalCount()).isEqualTo(5);
+        assertThat(histogram.getValueAtPercentile(0)).isEqualTo(10);
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo(30);
+        assertThat(histogram.getMaxValue()).isEqualTo(50);
+    }
+
+    @Test
+    public void recordValue_aboveHighestTrackableValue_keepsExactMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram(1000);
+        histogram.recordValue(5000);
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo(5000);
+        assertThat(histogram.getMaxValue()).isEqualTo(5000);
+    }
+}
@@ -0,0 +1,42 @@
+package rocks.bastion.core.load;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyRecorderTest {
+
+    @Test
+    public void getMergedHistogram_moreThreadsThanHistograms_containsEveryLatency() throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder(2);
+        List<Thread> threads = new ArrayList<>();
+        for (int threadIndex = 0; threadIndex < 8; threadIndex++) {
+            threads.add(new Thread(() -> {
+                for (int value = 1; value <= 1000; value++) {
+                    recorder.record(value * 1000L, value % 100 == 0);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        LatencyHistogram histogram = recorder.getMergedHistogram();
+        assertThat(histogram.getTotalCount()).isEqualTo(8000);
+        assertThat(histogram.getMinValue()).isEqualTo(1000L);
+        assertThat(histogram.getMaxValue()).isEqualTo(1_000_000L);
+        assertThat(recorder.getErrorCount()).isEqualTo(80);
+    }
+
+    @Test
+    public void record_negativeLatency_isRecordedAsZero() {
+        LatencyRecorder recorder = new LatencyRecorder(1);
+        recorder.record(-5, false);
+        assertThat(recorder.getMergedHistogram().getMaxValue()).isZero();
+        assertThat(recorder.getErrorCount()).isZero();
+    }
+
+}
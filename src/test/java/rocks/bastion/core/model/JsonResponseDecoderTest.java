@@ -0,0 +1,71 @@
+package rocks.bastion.core.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Test;
+import rocks.bastion.core.ApiHeader;
+import rocks.bastion.core.ModelResponse;
+import rocks.bastion.core.RawResponse;
+import rocks.bastion.support.embedded.Sushi;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonResponseDecoderTest {
+
+    @Test
+    public void decode_modelType_bindsFromBody() {
+        CountingResponse response = new CountingResponse("{ \"id\": 5, \"name\": \"sashimi\", \"price\": 5.6 }");
+        ModelResponse<Object> modelResponse = new ModelResponse<>(response, null);
+
+        Object model = new JsonResponseDecoder().decode(modelResponse, new DecodingHints(Sushi.class)).orElse(null);
+
+        assertThat(model).isInstanceOf(Sushi.class);
+        assertThat(((Sushi) model).getName()).isEqualTo("sashimi");
+        assertThat(response.bodyReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void decode_noModelType_returnsCopyOfSharedJsonTree() throws Exception {
+        CountingResponse response = new CountingResponse("{ \"name\": \"sashimi\" }");
+        ModelResponse<Object> modelResponse = new ModelResponse<>(response, null);
+
+        Object model = new JsonResponseDecoder().decode(modelResponse, new DecodingHints(null)).orElse(null);
+        ((ObjectNode) model).put("name", "nigiri");
+
+        assertThat(modelResponse.getJsonTree().get("name").asText()).isEqualTo("sashimi");
+        assertThat(response.bodyReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void decode_modelTypeCannotBeBound_returnsJsonTree() {
+        Object model = new JsonResponseDecoder().decode(new CountingResponse("[1, 2, 3]"), new DecodingHints(Sushi.class)).orElse(null);
+
+        assertThat(model).isInstanceOf(JsonNode.class);
+        assertThat(((JsonNode) model).size()).isEqualTo(3);
+    }
+
+    @Test
+    public void decode_invalidJson_returnsEmpty() {
+        assertThat(new JsonResponseDecoder().decode(new CountingResponse("{ \"name\": "), new DecodingHints(Sushi.class))).isEmpty();
+    }
+
+    private static class CountingResponse extends RawResponse {
+
+        private final AtomicInteger bodyReads = new AtomicInteger();
+
+        CountingResponse(String body) {
+            super(200, "OK", Collections.singletonList(new ApiHeader("Content-type", "application/json")), new ByteArrayInputStream(body.getBytes()));
+        }
+
+        @Override
+        public InputStream getBody() {
+            bodyReads.incrementAndGet();
+            return super.getBody();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package rocks.bastion.core.model;
+
+import org.apache.http.entity.ContentType;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResponseDecoderRegistryTest {
+
+    private final ResponseDecoder jsonDecoder = (response, hints) -> Optional.of("json");
+    private final ResponseDecoder halDecoder = (response, hints) -> Optional.of("hal");
+    private final ResponseDecoder textDecoder = (response, hints) -> Optional.of("text");
+    private final ResponseDecoder anyDecoder = (response, hints) -> Optional.of("any");
+
+    @Test
+    public void getDecoders_resolvesByMimeTypeInRegistrationOrder() {
+        ResponseDecoderRegistry registry = newRegistry();
+
+        assertThat(registry.getDecoders(Optional.of(ContentType.APPLICATION_JSON))).containsExactly(jsonDecoder, anyDecoder);
+        assertThat(registry.getDecoders(Optional.of(ContentType.create("application/hal+json")))).containsExactly(halDecoder, anyDecoder);
+        assertThat(registry.getDecoders(Optional.of(ContentType.create("TEXT/HTML")))).containsExactly(textDecoder, anyDecoder);
+        assertThat(registry.getDecoders(Optional.of(ContentType.APPLICATION_OCTET_STREAM))).containsExactly(anyDecoder);
+        assertThat(registry.getDecoders(Optional.empty())).containsExactly(textDecoder, anyDecoder);
+    }
+
+    @Test
+    public void registrarDefault_anyMimeType_registersDecoder() {
+        ResponseDecoderRegistry registry = new ResponseDecoderRegistry();
+        ResponseDecodersRegistrar registrar = registry::register;
+
+        registrar.registerModelConverter(jsonDecoder, ResponseDecoderRegistry.ANY_MIME_TYPE);
+
+        assertThat(registry.getDecoders(Optional.of(ContentType.APPLICATION_OCTET_STREAM))).containsExactly(jsonDecoder);
+    }
+
+    @Test
+    public void registrarDefault_specificMimeType_rejected() {
+        ResponseDecodersRegistrar registrar = new ResponseDecoderRegistry()::register;
+
+        assertThatThrownBy(() -> registrar.registerModelConverter(jsonDecoder, "application/json")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void getDecoders_sameMimeType_resolvedOnce() {
+        ResponseDecoderRegistry registry = newRegistry();
+
+        assertThat(registry.getDecoders(Optional.of(ContentType.APPLICATION_JSON))).isSameAs(registry.getDecoders(Optional.of(ContentType.create("application/json", "UTF-8"))));
+    }
+
+    @Test
+    public void register_afterResolving_updatesIndex() {
+        ResponseDecoderRegistry registry = newRegistry();
+        registry.getDecoders(Optional.of(ContentType.APPLICATION_OCTET_STREAM));
+
+        ResponseDecoder binaryDecoder = (response, hints) -> Optional.of("binary");
+        registry.register(binaryDecoder, "application/octet-stream");
+
+        assertThat(registry.getDecoders(Optional.of(ContentType.APPLICATION_OCTET_STREAM))).containsExactly(anyDecoder, binaryDecoder);
+    }
+
+    @Test
+    public void copy_registeringWithCopy_doesNotChangeOriginal() {
+        ResponseDecoderRegistry registry = newRegistry();
+        registry.getDecoders(Optional.of(ContentType.APPLICATION_OCTET_STREAM));
+
+        ResponseDecoderRegistry copy = new ResponseDecoderRegistry(registry);
+        ResponseDecoder binaryDecoder = (response, hints) -> Optional.of("binary");
+        copy.register(binaryDecoder, "application/octet-stream");
+
+        assertThat(copy.getDecoders(Optional.of(ContentType.APPLICATION_OCTET_STREAM))).containsExactly(anyDecoder, binaryDecoder);
+        assertThat(registry.getDecoders(Optional.of(ContentType.APPLICATION_OCTET_STREAM))).containsExactly(anyDecoder);
+    }
+
+    @Test
+    public void register_invalidPattern_shouldThrowException() {
+        ResponseDecoderRegistry registry = new ResponseDecoderRegistry();
+        assertThatThrownBy(() -> registry.register(anyDecoder, "json")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.register(anyDecoder, "*/json")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.register(anyDecoder, "application/")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ResponseDecoderRegistry newRegistry() {
+        ResponseDecoderRegistry registry = new ResponseDecoderRegistry();
+        registry.register(jsonDecoder, "application/json");
+        registry.register(halDecoder, "application/*+json");
+        registry.register(textDecoder, "text/*");
+        registry.register(anyDecoder);
+        return registry;
+    }
+}
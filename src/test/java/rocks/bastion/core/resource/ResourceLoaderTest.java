@@ -0,0 +1,68 @@
+package rocks.bastion.core.resource;
+
+import com.google.common.base.Strings;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceLoaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @After
+    public void resetContentCache() {
+        ResourceLoader.setContentCacheMaximumBytes(ResourceLoader.DEFAULT_CONTENT_CACHE_MAXIMUM_BYTES);
+    }
+
+    @Test
+    public void load_sameSource_readsResourceOnce() throws Exception {
+        ResourceLoader.setContentCacheMaximumBytes(ResourceLoader.DEFAULT_CONTENT_CACHE_MAXIMUM_BYTES);
+        File file = temporaryFolder.newFile("fixture.json");
+        Files.write(file.toPath(), "{ \"name\": \"sushi\" }".getBytes(Charset.defaultCharset()));
+        String source = file.toURI().toString();
+
+        assertThat(new ResourceLoader(source).load()).isEqualTo("{ \"name\": \"sushi\" }");
+        Files.write(file.toPath(), "changed".getBytes(Charset.defaultCharset()));
+        assertThat(new ResourceLoader(source).load()).isEqualTo("{ \"name\": \"sushi\" }");
+        assertThat(ResourceLoader.getContentCacheStats().hitCount()).isEqualTo(1);
+
+        ResourceLoader.clearContentCache();
+        assertThat(new ResourceLoader(source).load()).isEqualTo("changed");
+    }
+
+    @Test
+    public void load_cacheFull_evictsContent() throws Exception {
+        ResourceLoader.setContentCacheMaximumBytes(0);
+        File file = temporaryFolder.newFile("fixture.json");
+        Files.write(file.toPath(), "first".getBytes(Charset.defaultCharset()));
+        String source = file.toURI().toString();
+
+        assertThat(new ResourceLoader(source).load()).isEqualTo("first");
+        Files.write(file.toPath(), "second".getBytes(Charset.defaultCharset()));
+        assertThat(new ResourceLoader(source).load()).isEqualTo("second");
+    }
+
+    @Test
+    public void load_largeFile_isMemoryMapped() throws Exception {
+        File file = temporaryFolder.newFile("large.json");
+        String content = Strings.repeat("sushi", (int) ResourceLoader.MEMORY_MAPPING_THRESHOLD / 5 + 1);
+        Files.write(file.toPath(), content.getBytes(Charset.defaultCharset()));
+
+        assertThat(new ResourceLoader(file.toURI().toString()).load()).isEqualTo(content);
+    }
+
+    @Test
+    public void load_missingResource_isNotCached() {
+        assertThatThrownBy(() -> new ResourceLoader("classpath:/json/does_not_exist.json")).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> new ResourceLoader("classpath:/json/does_not_exist.json")).isInstanceOf(ResourceNotFoundException.class);
+    }
+}
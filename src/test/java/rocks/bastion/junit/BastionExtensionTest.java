@@ -0,0 +1,157 @@
+package rocks.bastion.junit;
+
+import org.junit.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Event;
+import rocks.bastion.Bastion;
+import rocks.bastion.core.BastionFactory;
+import rocks.bastion.core.GeneralRequest;
+import rocks.bastion.core.json.JsonResponseAssertions;
+import rocks.bastion.support.embedded.TestWithEmbeddedServer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+public class BastionExtensionTest extends TestWithEmbeddedServer {
+
+    private static final String NIGIRI = "{ \"id\":5, \"name\":\"Salmon Nigiri\", \"price\":23.55 }";
+
+    @Test
+    public void execute_parallelExecution_reportsEveryRequestAgainstItsTestMethod() {
+        BastionFactory defaultFactory = BastionFactory.getDefaultBastionFactory();
+
+        EngineExecutionResults results = executeConcurrently(ParallelRequests.class);
+
+        results.testEvents().assertStatistics(stats -> stats.started(4).succeeded(3).failed(1));
+        Map<String, List<String>> entriesByTestMethod = results.allEvents().reportingEntryPublished().stream().collect(Collectors.groupingBy(
+                event -> event.getTestDescriptor().getDisplayName(),
+                Collectors.mapping(BastionExtensionTest::describeEntry, Collectors.toList())));
+        assertThat(entriesByTestMethod).containsOnlyKeys("firstRequests()", "secondRequests()", "asyncRequests()", "failingRequest()");
+        assertThat(entriesByTestMethod.get("firstRequests()")).containsExactly(
+                "GET http://localhost:9876/nigiri - Get Nigiri #1: passed",
+                "GET http://localhost:9876/nigiri - Get Nigiri #2: passed");
+        assertThat(entriesByTestMethod.get("secondRequests()")).containsExactly(
+                "GET http://localhost:9876/nigiri - Get Nigiri #1: passed",
+                "GET http://localhost:9876/nigiri - Get Nigiri #2: passed");
+        assertThat(entriesByTestMethod.get("asyncRequests()")).containsExactly("GET http://localhost:9876/nigiri - Get Nigiri #1: passed");
+        assertThat(entriesByTestMethod.get("failingRequest()")).containsExactly("GET http://localhost:9876/nigiri - Get Nigiri (wrong price): failed");
+        assertThat(BastionFactory.getDefaultBastionFactory()).isSameAs(defaultFactory);
+        assertThat(BastionFactory.getCurrentBastionFactory()).isSameAs(defaultFactory);
+    }
+
+    @Test
+    public void execute_parallelExecutionAnnotation_limitsConcurrentTestMethods() {
+        EngineExecutionResults results = executeConcurrently(LimitedRequests.class);
+
+        results.testEvents().assertStatistics(stats -> stats.started(4).succeeded(4));
+        assertThat(LimitedRequests.maximumRunning.get()).isEqualTo(2);
+    }
+
+    private static EngineExecutionResults executeConcurrently(Class<?> testClass) {
+        return EngineTestKit.engine("junit-jupiter")
+                            .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                            .configurationParameter("junit.jupiter.execution.parallel.mode.default", "concurrent")
+                            .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                            .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "4")
+                            .selectors(selectClass(testClass))
+                            .execute();
+    }
+
+    private static String describeEntry(Event event) {
+        Map<String, String> entry = event.getPayload(ReportEntry.class).get().getKeyValuePairs();
+        assertThat(entry.get("bastion.durationMillis")).matches("\\d+");
+        return entry.get("bastion.request") + ": " + entry.get("bastion.result");
+    }
+
+    private static void getNigiri(String message) {
+        Bastion.request(message, GeneralRequest.get("http://localhost:9876/nigiri"))
+               .withAssertions(JsonResponseAssertions.fromString(200, NIGIRI))
+               .call();
+    }
+
+    @ExtendWith(BastionExtension.class)
+    static class ParallelRequests {
+
+        // Every test method waits for the others to start, so the test only passes if they all run at the same time.
+        private static final CyclicBarrier ALL_STARTED = new CyclicBarrier(4);
+
+        @org.junit.jupiter.api.Test
+        void firstRequests() throws Exception {
+            ALL_STARTED.await(10, TimeUnit.SECONDS);
+            getNigiri("Get Nigiri #1");
+            getNigiri("Get Nigiri #2");
+        }
+
+        @org.junit.jupiter.api.Test
+        void secondRequests() throws Exception {
+            ALL_STARTED.await(10, TimeUnit.SECONDS);
+            getNigiri("Get Nigiri #1");
+            getNigiri("Get Nigiri #2");
+        }
+
+        @org.junit.jupiter.api.Test
+        void asyncRequests() throws Exception {
+            ALL_STARTED.await(10, TimeUnit.SECONDS);
+            Bastion.request("Get Nigiri #1", GeneralRequest.get("http://localhost:9876/nigiri"))
+                   .withAssertions(JsonResponseAssertions.fromString(200, NIGIRI))
+                   .callAsync()
+                   .join();
+        }
+
+        @org.junit.jupiter.api.Test
+        void failingRequest() throws Exception {
+            ALL_STARTED.await(10, TimeUnit.SECONDS);
+            Bastion.request("Get Nigiri (wrong price)", GeneralRequest.get("http://localhost:9876/nigiri"))
+                   .withAssertions(JsonResponseAssertions.fromString(200, "{ \"id\":5, \"name\":\"Salmon Nigiri\", \"price\":1.00 }"))
+                   .call();
+        }
+    }
+
+    @ExtendWith(BastionExtension.class)
+    @ParallelExecution(threads = 2)
+    static class LimitedRequests {
+
+        private static final AtomicInteger running = new AtomicInteger();
+        private static final AtomicInteger maximumRunning = new AtomicInteger();
+
+        @org.junit.jupiter.api.Test
+        void first() throws Exception {
+            runLimited();
+        }
+
+        @org.junit.jupiter.api.Test
+        void second() throws Exception {
+            runLimited();
+        }
+
+        @org.junit.jupiter.api.Test
+        void third() throws Exception {
+            runLimited();
+        }
+
+        @org.junit.jupiter.api.Test
+        void fourth() throws Exception {
+            runLimited();
+        }
+
+        private static void runLimited() throws InterruptedException {
+            maximumRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                getNigiri("Get Nigiri");
+                Thread.sleep(200);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package rocks.bastion.junit;
+
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import rocks.bastion.Bastion;
+import rocks.bastion.core.BastionBuilderImpl;
+import rocks.bastion.core.BastionFactory;
+import rocks.bastion.core.DefaultBastionFactory;
+import rocks.bastion.core.GeneralRequest;
+import rocks.bastion.core.json.JsonResponseAssertions;
+import rocks.bastion.support.embedded.TestWithEmbeddedServer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BastionRunnerTest {
+
+    @Test
+    public void run_parallelExecution_reportsEveryRequestAgainstItsTestMethod() {
+        RecordingListener listener = new RecordingListener();
+        JUnitCore core = new JUnitCore();
+        core.addListener(listener);
+
+        Result result = core.run(Request.aClass(ParallelRequests.class));
+
+        // Both the test methods and the requests they perform are reported as tests.
+        assertThat(result.getRunCount()).isEqualTo(10);
+        assertThat(result.getFailures()).extracting(failure -> failure.getDescription().getDisplayName()).containsOnly(
+                "GET http://localhost:9876/nigiri - Get Nigiri (wrong price)(failingRequest)",
+                "failingRequest");
+        assertThat(listener.threadNames).hasSize(4);
+        assertThat(listener.threadNames).allMatch(name -> name.startsWith("bastion-runner-ParallelRequests-"));
+        assertThat(listener.finishedRequests).containsOnly(
+                "GET http://localhost:9876/nigiri - Get Nigiri #1(firstRequests)",
+                "GET http://localhost:9876/nigiri - Get Nigiri #2(firstRequests)",
+                "GET http://localhost:9876/nigiri - Get Nigiri #1(secondRequests)",
+                "GET http://localhost:9876/nigiri - Get Nigiri #2(secondRequests)",
+                "GET http://localhost:9876/nigiri - Get Nigiri #1(asyncRequests)",
+                "GET http://localhost:9876/nigiri - Get Nigiri (wrong price)(failingRequest)");
+        assertThat(listener.finishedRequests).hasSize(6);
+        Map<String, List<String>> requestsByTestMethod = listener.testMethods.stream().collect(Collectors.toMap(
+                Description::getDisplayName,
+                testMethod -> testMethod.getChildren().stream().map(Description::getMethodName).collect(Collectors.toList())));
+        assertThat(requestsByTestMethod).containsOnlyKeys("firstRequests", "secondRequests", "asyncRequests", "failingRequest");
+        assertThat(requestsByTestMethod.get("firstRequests")).containsExactly("GET http://localhost:9876/nigiri - Get Nigiri #1", "GET http://localhost:9876/nigiri - Get Nigiri #2");
+        assertThat(requestsByTestMethod.get("secondRequests")).containsExactly("GET http://localhost:9876/nigiri - Get Nigiri #1", "GET http://localhost:9876/nigiri - Get Nigiri #2");
+        assertThat(requestsByTestMethod.get("asyncRequests")).containsExactly("GET http://localhost:9876/nigiri - Get Nigiri #1");
+        assertThat(requestsByTestMethod.get("failingRequest")).containsExactly("GET http://localhost:9876/nigiri - Get Nigiri (wrong price)");
+    }
+
+    @Test
+    public void run_useBastionFactory_scopesFactoryToTestClass() {
+        BastionFactory defaultFactory = BastionFactory.getDefaultBastionFactory();
+
+        Result result = new JUnitCore().run(Request.aClass(CustomFactoryRequests.class));
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getRunCount()).isEqualTo(2);
+        assertThat(CountingBastionFactory.createdBuilders.get()).isEqualTo(1);
+        assertThat(BastionFactory.getDefaultBastionFactory()).isSameAs(defaultFactory);
+        assertThat(BastionFactory.getCurrentBastionFactory()).isSameAs(defaultFactory);
+    }
+
+    @RunWith(BastionRunner.class)
+    @ParallelExecution(threads = 4)
+    public static class ParallelRequests extends TestWithEmbeddedServer {
+
+        private static final String NIGIRI = "{ \"id\":5, \"name\":\"Salmon Nigiri\", \"price\":23.55 }";
+
+        // Every test method waits for the others to start, so the test only passes if they all run at the same time.
+        private static final CyclicBarrier ALL_STARTED = new CyclicBarrier(4);
+
+        @Test
+        public void firstRequests() throws Exception {
+            ALL_STARTED.await(10, TimeUnit.SECONDS);
+            getNigiri("Get Nigiri #1");
+            getNigiri("Get Nigiri #2");
+        }
+
+        @Test
+        public void secondRequests() throws Exception {
+            ALL_STARTED.await(10, TimeUnit.SECONDS);
+            getNigiri("Get Nigiri #1");
+            getNigiri("Get Nigiri #2");
+        }
+
+        @Test
+        public void asyncRequests() throws Exception {
+            ALL_STARTED.await(10, TimeUnit.SECONDS);
+            Bastion.request("Get Nigiri #1", GeneralRequest.get("http://localhost:9876/nigiri"))
+                   .withAssertions(JsonResponseAssertions.fromString(200, NIGIRI))
+                   .callAsync()
+                   .join();
+        }
+
+        @Test
+        public void failingRequest() throws Exception {
+            ALL_STARTED.await(10, TimeUnit.SECONDS);
+            Bastion.request("Get Nigiri (wrong price)", GeneralRequest.get("http://localhost:9876/nigiri"))
+                   .withAssertions(JsonResponseAssertions.fromString(200, "{ \"id\":5, \"name\":\"Salmon Nigiri\", \"price\":1.00 }"))
+                   .call();
+        }
+
+        private static void getNigiri(String message) {
+            Bastion.request(message, GeneralRequest.get("http://localhost:9876/nigiri"))
+                   .withAssertions(JsonResponseAssertions.fromString(200, NIGIRI))
+                   .call();
+        }
+    }
+
+    public static class CountingBastionFactory extends DefaultBastionFactory {
+
+        private static final AtomicInteger createdBuilders = new AtomicInteger();
+
+        @Override
+        protected void prepareBastion(BastionBuilderImpl<?> bastion) {
+            createdBuilders.incrementAndGet();
+            super.prepareBastion(bastion);
+        }
+    }
+
+    @RunWith(BastionRunner.class)
+    @UseBastionFactory(CountingBastionFactory.class)
+    public static class CustomFactoryRequests extends TestWithEmbeddedServer {
+
+        @Test
+        public void getNigiri() {
+            assertThat(BastionFactory.getCurrentBastionFactory()).isNotSameAs(BastionFactory.getDefaultBastionFactory());
+            Bastion.request("Get Nigiri", GeneralRequest.get("http://localhost:9876/nigiri"))
+                   .withAssertions(JsonResponseAssertions.fromString(200, "{ \"id\":5, \"name\":\"Salmon Nigiri\", \"price\":23.55 }"))
+                   .call();
+        }
+    }
+
+    private static class RecordingListener extends RunListener {
+
+        private final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        private final List<Description> testMethods = new CopyOnWriteArrayList<>();
+        private final List<String> finishedRequests = new CopyOnWriteArrayList<>();
+
+        // Test methods are described by their name alone while requests are described as "<request>(<test method>)".
+
+        @Override
+        public void testStarted(Description description) {
+            if (description.getMethodName() == null) {
+                threadNames.add(Thread.currentThread().getName());
+                testMethods.add(description);
+            }
+        }
+
+        @Override
+        public void testFinished(Description description) {
+            if (description.getMethodName() != null) {
+                finishedRequests.add(description.getDisplayName());
+            }
+        }
+
+        @Override
+        public void testFailure(Failure failure) {
+        }
+    }
+}
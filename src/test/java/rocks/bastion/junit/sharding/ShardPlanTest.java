@@ -0,0 +1,80 @@
+package rocks.bastion.junit.sharding;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ShardPlanTest {
+
+    @Test
+    public void create_balancesShardsByDuration() {
+        TestDurations durations = durations("A", 100, "B", 60, "C", 50, "D", 40, "E", 30, "F", 20);
+
+        ShardPlan plan = ShardPlan.create(Arrays.asList("F", "E", "D", "C", "B", "A"), durations, 2);
+
+        assertThat(plan.getShardCount()).isEqualTo(2);
+        assertThat(plan.getClasses(0)).containsExactly("A", "D", "F");
+        assertThat(plan.getClasses(1)).containsExactly("B", "C", "E");
+        assertThat(plan.getExpectedMillis(0)).isEqualTo(160);
+        assertThat(plan.getExpectedMillis(1)).isEqualTo(140);
+    }
+
+    @Test
+    public void create_slowClassGetsItsOwnShard() {
+        TestDurations durations = durations("Slow", 900, "A", 100, "B", 100, "C", 100, "D", 100, "E", 100, "F", 100);
+
+        ShardPlan plan = ShardPlan.create(Arrays.asList("A", "B", "C", "D", "E", "F", "Slow"), durations, 3);
+
+        assertThat(plan.getClasses(0)).containsExactly("Slow");
+        assertThat(plan.getClasses(1)).containsExactly("A", "C", "E");
+        assertThat(plan.getClasses(2)).containsExactly("B", "D", "F");
+    }
+
+    @Test
+    public void create_unknownDurations_expectAverageDuration() {
+        TestDurations durations = durations("A", 300, "B", 100);
+
+        ShardPlan plan = ShardPlan.create(Arrays.asList("A", "B", "New1", "New2"), durations, 2);
+
+        // The new classes are expected to take 200 ms each, the average of the recorded durations.
+        assertThat(plan.getClasses(0)).containsExactly("A", "B");
+        assertThat(plan.getClasses(1)).containsExactly("New1", "New2");
+        assertThat(plan.getExpectedMillis(1)).isEqualTo(400);
+    }
+
+    @Test
+    public void create_noDurations_splitsClassesEvenly() {
+        ShardPlan plan = ShardPlan.create(Arrays.asList("A", "B", "C", "D", "E"), new TestDurations(), 2);
+
+        assertThat(plan.getClasses(0)).containsExactly("A", "C", "E");
+        assertThat(plan.getClasses(1)).containsExactly("B", "D");
+    }
+
+    @Test
+    public void create_moreShardsThanClasses_leavesShardsEmpty() {
+        ShardPlan plan = ShardPlan.create(Collections.singletonList("A"), new TestDurations(), 3);
+
+        assertThat(plan.getClasses(0)).containsExactly("A");
+        assertThat(plan.getClasses(1)).isEmpty();
+        assertThat(plan.getClasses(2)).isEmpty();
+    }
+
+    @Test
+    public void create_nonPositiveShardCount_throws() {
+        assertThatThrownBy(() -> ShardPlan.create(Collections.singletonList("A"), new TestDurations(), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static TestDurations durations(Object... classesAndMillis) {
+        TestDurations durations = new TestDurations();
+        List<Object> values = Arrays.asList(classesAndMillis);
+        for (int index = 0; index < values.size(); index += 2) {
+            durations.record((String) values.get(index), ((Integer) values.get(index + 1)).longValue());
+        }
+        return durations;
+    }
+}
@@ -0,0 +1,106 @@
+package rocks.bastion.junit.sharding;
+
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class ShardedTestLauncherTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void run_mergesShardResultsAndRecordsDurations() throws Exception {
+        Path outputDirectory = temporaryFolder.getRoot().toPath();
+        Path timingFile = outputDirectory.resolve("bastion-timings.properties");
+        // The previous run found the slow class to take as long as the other two together.
+        TestDurations previousDurations = new TestDurations();
+        previousDurations.record(SlowTests.class.getName(), 400);
+        previousDurations.record(PassingTests.class.getName(), 200);
+        previousDurations.record(FailingTests.class.getName(), 200);
+        previousDurations.save(timingFile);
+
+        ShardedRunReport report = new ShardedTestLauncher(outputDirectory).withShards(2)
+                                                                          .withTimingFile(timingFile)
+                                                                          .run(Arrays.asList(PassingTests.class.getName(), FailingTests.class.getName(), SlowTests.class.getName()));
+
+        assertThat(report.getPlan().getClasses(0)).containsExactly(SlowTests.class.getName());
+        assertThat(report.getPlan().getClasses(1)).containsExactly(FailingTests.class.getName(), PassingTests.class.getName());
+        assertThat(report.getRunCount()).isEqualTo(4);
+        assertThat(report.getIgnoreCount()).isEqualTo(1);
+        assertThat(report.wasSuccessful()).isFalse();
+        assertThat(report.getFailures()).hasSize(1);
+        assertThat(report.getFailures().get(0)).contains("failingTest").contains("Expected failure");
+        assertThat(report.getShardResults().get(0).getRunCount()).isEqualTo(1);
+        assertThat(report.getShardResults().get(1).getRunCount()).isEqualTo(3);
+
+        TestDurations latestDurations = TestDurations.load(timingFile);
+        assertThat(latestDurations.asMap()).containsOnlyKeys(PassingTests.class.getName(), FailingTests.class.getName(), SlowTests.class.getName());
+        assertThat(latestDurations.get(SlowTests.class.getName()).getAsLong()).isGreaterThanOrEqualTo(100);
+        assertThat(new String(Files.readAllBytes(outputDirectory.resolve("report.txt")), StandardCharsets.UTF_8))
+                .startsWith("Bastion sharded run: 2 shards, 4 tests, 1 failures, 1 ignored");
+    }
+
+    @Test
+    public void run_unknownClass_reportsFailure() throws Exception {
+        ShardedRunReport report = new ShardedTestLauncher(temporaryFolder.getRoot().toPath()).withShards(1)
+                                                                                             .run(Arrays.asList("rocks.bastion.DoesNotExistTest"));
+
+        assertThat(report.wasSuccessful()).isFalse();
+        assertThat(report.getFailures()).hasSize(1);
+        assertThat(report.getFailures().get(0)).startsWith("rocks.bastion.DoesNotExistTest: the test class cannot be loaded");
+    }
+
+    @Test
+    public void findTestClasses_findsTopLevelTestClasses() throws Exception {
+        Path classesDirectory = temporaryFolder.getRoot().toPath();
+        Files.createDirectories(classesDirectory.resolve("com/example"));
+        Files.createFile(classesDirectory.resolve("com/example/SushiTest.class"));
+        Files.createFile(classesDirectory.resolve("com/example/SushiTest$Fixture.class"));
+        Files.createFile(classesDirectory.resolve("com/example/Sushi.class"));
+        Files.createFile(classesDirectory.resolve("NigiriTest.class"));
+
+        assertThat(ShardedTestLauncher.findTestClasses(classesDirectory)).containsExactly("NigiriTest", "com.example.SushiTest");
+    }
+
+    public static class PassingTests {
+
+        @Test
+        public void passingTest() {
+        }
+
+        @Ignore
+        @Test
+        public void ignoredTest() {
+        }
+    }
+
+    public static class FailingTests {
+
+        @Test
+        public void passingTest() {
+        }
+
+        @Test
+        public void failingTest() {
+            fail("Expected failure");
+        }
+    }
+
+    public static class SlowTests {
+
+        @Test
+        public void slowTest() throws InterruptedException {
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package rocks.bastion.junit.sharding;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestDurationsTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void saveAndLoad_roundTrip() throws Exception {
+        Path timingFile = temporaryFolder.getRoot().toPath().resolve("timings/bastion-timings.properties");
+        TestDurations durations = new TestDurations();
+        durations.record("com.example.SlowTest", 12_000);
+        durations.record("com.example.FastTest", 150);
+
+        durations.save(timingFile);
+        TestDurations loaded = TestDurations.load(timingFile);
+
+        assertThat(loaded.asMap()).containsExactly(entry("com.example.FastTest", 150L), entry("com.example.SlowTest", 12_000L));
+        assertThat(Files.readAllLines(timingFile, StandardCharsets.UTF_8)).contains("com.example.FastTest=150", "com.example.SlowTest=12000");
+    }
+
+    @Test
+    public void load_missingFile_returnsNoDurations() throws Exception {
+        TestDurations loaded = TestDurations.load(temporaryFolder.getRoot().toPath().resolve("missing.properties"));
+
+        assertThat(loaded.asMap()).isEmpty();
+        assertThat(loaded.get("com.example.FastTest").isPresent()).isFalse();
+    }
+
+    @Test
+    public void load_invalidDuration_throws() throws Exception {
+        Path timingFile = temporaryFolder.newFile("bastion-timings.properties").toPath();
+        Files.write(timingFile, Collections.singletonList("com.example.FastTest=fast"), StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> TestDurations.load(timingFile)).isInstanceOf(IllegalArgumentException.class)
+                                                                 .hasMessageContaining("com.example.FastTest");
+    }
+
+    @Test
+    public void recordAll_replacesDurationsOfSameClasses() {
+        TestDurations previous = new TestDurations();
+        previous.record("A", 100);
+        previous.record("B", 200);
+        TestDurations latest = new TestDurations();
+        latest.record("B", 250);
+
+        previous.recordAll(latest);
+
+        assertThat(previous.asMap()).containsExactly(entry("A", 100L), entry("B", 250L));
+    }
+
+    private static org.assertj.core.data.MapEntry entry(String key, Long value) {
+        return org.assertj.core.data.MapEntry.entry(key, value);
+    }
+}
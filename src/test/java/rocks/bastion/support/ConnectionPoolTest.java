@@ -0,0 +1,67 @@
+package rocks.bastion.support;
+
+import org.junit.Test;
+import rocks.bastion.core.BastionBuilderImpl;
+import rocks.bastion.core.DefaultBastionFactory;
+import rocks.bastion.core.GeneralRequest;
+import rocks.bastion.core.event.*;
+import rocks.bastion.core.transport.ApacheHttpClientTransport;
+import rocks.bastion.core.transport.ConnectionPoolSettings;
+import rocks.bastion.support.embedded.TestWithEmbeddedServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectionPoolTest extends TestWithEmbeddedServer {
+
+    @Test
+    public void testConnectionPool_publishesStatisticsEvents() throws Exception {
+        List<BastionConnectionPoolEvent> events = new ArrayList<>();
+        DefaultBastionFactory factory = new DefaultBastionFactory() {
+            @Override
+            protected void prepareBastion(BastionBuilderImpl<?> bastion) {
+                super.prepareBastion(bastion);
+                bastion.registerListener(new BastionListener() {
+                    @Override
+                    public void callStarted(BastionStartedEvent event) {
+                    }
+
+                    @Override
+                    public void callFinished(BastionFinishedEvent event) {
+                    }
+
+                    @Override
+                    public void callFailed(BastionFailureEvent event) {
+                    }
+
+                    @Override
+                    public void callError(BastionErrorEvent event) {
+                    }
+
+                    @Override
+                    public void connectionPoolUpdated(BastionConnectionPoolEvent event) {
+                        events.add(event);
+                    }
+                });
+            }
+        };
+        try (ApacheHttpClientTransport ignored = factory.useConnectionPool(new ConnectionPoolSettings()
+                .setMaxTotal(10)
+                .setMaxPerRoute(1)
+                .setIdleEviction(30, TimeUnit.SECONDS)
+                .setKeepAlive(30, TimeUnit.SECONDS))) {
+            factory.getBastion("Get Nigiri 1", GeneralRequest.get(getUrl("/nigiri"))).call();
+            factory.getBastion("Get Nigiri 2", GeneralRequest.get(getUrl("/nigiri"))).call();
+        }
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getRequestMessage()).endsWith("Get Nigiri 1");
+        assertThat(events.get(1).getStatistics().getLeasedConnections()).isEqualTo(2);
+        assertThat(events.get(1).getStatistics().getReusedConnections()).isEqualTo(1);
+        assertThat(events.get(1).getStatistics().getReuseRatio()).isEqualTo(0.5);
+    }
+
+}
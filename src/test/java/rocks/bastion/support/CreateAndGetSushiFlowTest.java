@@ -0,0 +1,48 @@
+package rocks.bastion.support;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import rocks.bastion.Bastion;
+import rocks.bastion.core.Assertions;
+import rocks.bastion.core.GeneralRequest;
+import rocks.bastion.core.flow.FlowResults;
+import rocks.bastion.core.json.JsonRequest;
+import rocks.bastion.core.json.JsonResponseAssertions;
+import rocks.bastion.junit.BastionRunner;
+import rocks.bastion.support.embedded.Sushi;
+import rocks.bastion.support.embedded.TestWithEmbeddedServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(BastionRunner.class)
+public class CreateAndGetSushiFlowTest extends TestWithEmbeddedServer {
+
+    @Test
+    public void createAndGetSameSushi_whileGettingNigiri_Success() {
+        FlowResults results = Bastion.flow("Create and Get Sushi")
+                .step("create", () -> Bastion.request("Create Sushi", JsonRequest.postFromString("http://localhost:9876/sushi", "{ " +
+                        "\"name\":\"sashimi\", " +
+                        "\"price\":\"5.60\", " +
+                        "\"type\":\"SASHIMI\" " +
+                        "}"
+                )).bind(Sushi.class).withAssertions(JsonResponseAssertions.fromString(201, "{ " +
+                                "\"name\":\"sashimi\", " +
+                                "\"price\":5.60, " +
+                                "\"type\":\"SASHIMI\", " +
+                                "\"id\":5 " +
+                                "}"
+                        ).ignoreValuesForProperties("/id")
+                ))
+                .step("get", created -> Bastion.request("Get Sushi", GeneralRequest.get("http://localhost:9876/sushi/" + created.getModel("create", Sushi.class).getId()))
+                        .bind(Sushi.class)
+                        .withAssertions((Assertions<Sushi>) (statusCode, response, model) -> {
+                            assertThat(statusCode).describedAs("Status Code").isEqualTo(200);
+                            assertThat(model).describedAs("Returned Sushi").isEqualTo(created.getModel("create", Sushi.class));
+                        }), "create")
+                .step("nigiri", () -> Bastion.request("Get Nigiri", GeneralRequest.get("http://localhost:9876/nigiri"))
+                        .withAssertions(JsonResponseAssertions.fromString(200, "{ \"id\":5, \"name\":\"Salmon Nigiri\", \"price\":23.55 }")))
+                .call();
+
+        assertThat(results.getModel("get", Sushi.class).getName()).isEqualTo("sashimi");
+    }
+}
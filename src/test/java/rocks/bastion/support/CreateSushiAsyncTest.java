@@ -0,0 +1,87 @@
+package rocks.bastion.support;
+
+import org.junit.Test;
+import rocks.bastion.Bastion;
+import rocks.bastion.core.DefaultBastionFactory;
+import rocks.bastion.core.builder.PostExecutionBuilder;
+import rocks.bastion.core.transport.ApacheHttpClientTransport;
+import rocks.bastion.support.embedded.Sushi;
+import rocks.bastion.support.embedded.TestWithEmbeddedServer;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class CreateSushiAsyncTest extends TestWithEmbeddedServer {
+
+    @Test
+    public void testCreateSushiAsync_Success() throws Exception {
+        List<CompletableFuture<? extends PostExecutionBuilder<? extends Sushi>>> pendingCalls = IntStream.range(0, 10).mapToObj(index ->
+                Bastion.request("Create Sushi " + index, new CreateSushiRequest())
+                        .bind(Sushi.class)
+                        .withAssertions((statusCode, response, model) -> assertThat(statusCode).isEqualTo(201))
+                        .callAsync()
+        ).collect(Collectors.toList());
+
+        for (CompletableFuture<? extends PostExecutionBuilder<? extends Sushi>> pendingCall : pendingCalls) {
+            assertThat(pendingCall.get().getModel().getName()).isEqualTo("happiness");
+        }
+    }
+
+    @Test
+    public void testCreateSushiAsync_assertionFails_futureCompletesExceptionally() throws Exception {
+        CompletableFuture<? extends PostExecutionBuilder<?>> pendingCall = Bastion.request("Create Sushi", new CreateSushiRequest())
+                .withAssertions((statusCode, response, model) -> assertThat(statusCode).isEqualTo(200))
+                .callAsync();
+        try {
+            pendingCall.get();
+        } catch (ExecutionException exception) {
+            assertThat(exception.getCause()).isInstanceOf(AssertionError.class);
+            return;
+        }
+        fail("The assertion error should have been propagated through the returned future");
+    }
+
+    @Test
+    public void testCreateSushiAll_Success() {
+        List<PostExecutionBuilder<?>> executedCalls = Bastion.all(IntStream.range(0, 10).mapToObj(index ->
+                Bastion.request("Create Sushi " + index, new CreateSushiRequest())
+                        .bind(Sushi.class)
+                        .withAssertions((statusCode, response, model) -> assertThat(statusCode).isEqualTo(201))
+        ).collect(Collectors.toList()));
+
+        assertThat(executedCalls).hasSize(10);
+        executedCalls.forEach(executedCall -> assertThat(((Sushi) executedCall.getModel()).getName()).isEqualTo("happiness"));
+    }
+
+    @Test
+    public void testCreateSushiAll_threadPerCallExecutor_Success() {
+        DefaultBastionFactory factory = new DefaultBastionFactory();
+        factory.setHttpTransport(new ApacheHttpClientTransport());
+        ExecutorService executor = factory.useThreadPerCallExecutor();
+        try {
+            List<PostExecutionBuilder<?>> executedCalls = Bastion.all(
+                    factory.getBastion("Create Sushi 1", new CreateSushiRequest()).withAssertions((statusCode, response, model) -> assertThat(statusCode).isEqualTo(201)),
+                    factory.getBastion("Create Sushi 2", new CreateSushiRequest()).withAssertions((statusCode, response, model) -> assertThat(statusCode).isEqualTo(201))
+            );
+            assertThat(executedCalls).hasSize(2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testCreateSushiAll_assertionFails_throwsAssertionError() {
+        Bastion.all(
+                Bastion.request("Create Sushi 1", new CreateSushiRequest()).withAssertions((statusCode, response, model) -> assertThat(statusCode).isEqualTo(201)),
+                Bastion.request("Create Sushi 2", new CreateSushiRequest()).withAssertions((statusCode, response, model) -> assertThat(statusCode).isEqualTo(200))
+        );
+    }
+
+}
@@ -0,0 +1,83 @@
+package rocks.bastion.support;
+
+import org.junit.Test;
+import rocks.bastion.Bastion;
+import rocks.bastion.core.DefaultBastionFactory;
+import rocks.bastion.core.batch.BatchBuilder;
+import rocks.bastion.core.batch.BatchReport;
+import rocks.bastion.core.batch.BatchResult;
+import rocks.bastion.core.batch.CompletionOrder;
+import rocks.bastion.support.embedded.Sushi;
+import rocks.bastion.support.embedded.TestWithEmbeddedServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CreateSushiBatchTest extends TestWithEmbeddedServer {
+
+    @Test
+    public void testCreateSushiBatch_Success() {
+        List<Integer> callbackOrder = new ArrayList<>();
+        List<CreateSushiRequest> requests = IntStream.range(0, 20).mapToObj(index -> new CreateSushiRequest()).collect(Collectors.toList());
+
+        BatchReport<Sushi> report = Bastion.batch("Create Sushi", requests)
+                .bind(Sushi.class)
+                .withAssertions((statusCode, response, model) -> assertThat(statusCode).isEqualTo(201))
+                .thenDo((statusCode, response, model) -> callbackOrder.add(callbackOrder.size()))
+                .withConcurrency(4)
+                .call();
+
+        report.assertAllSucceeded();
+        assertThat(report.getTotalCount()).isEqualTo(20);
+        assertThat(report.getSuccessCount()).isEqualTo(20);
+        assertThat(report.getResults()).extracting(BatchResult::getIndex).containsExactlyElementsOf(IntStream.range(0, 20).boxed().collect(Collectors.toList()));
+        assertThat(report.getResponses()).hasSize(20).allMatch(response -> response.getModel().getName().equals("happiness"));
+        assertThat(callbackOrder).hasSize(20);
+    }
+
+    @Test
+    public void testCreateSushiBatch_unordered_reportsEveryRequest() {
+        List<CreateSushiRequest> requests = IntStream.range(0, 10).mapToObj(index -> new CreateSushiRequest()).collect(Collectors.toList());
+
+        BatchReport<Object> report = Bastion.batch(requests).withCompletionOrder(CompletionOrder.UNORDERED).call();
+
+        assertThat(report.getResults()).extracting(BatchResult::getIndex).containsOnlyElementsOf(IntStream.range(0, 10).boxed().collect(Collectors.toList())).hasSize(10);
+    }
+
+    @Test
+    public void testCreateSushiBatch_assertionFails_batchCompletesAndReportsFailures() {
+        List<CreateSushiRequest> requests = IntStream.range(0, 5).mapToObj(index -> new CreateSushiRequest()).collect(Collectors.toList());
+
+        // Use a separate factory so that the failures are not reported to any test runner which set the default factory.
+        BatchReport<Object> report = new BatchBuilder<>(new DefaultBastionFactory(), "Create Sushi", requests)
+                .withAssertions((statusCode, response, model) -> assertThat(statusCode).isEqualTo(200))
+                .call();
+
+        assertThat(report.getFailureCount()).isEqualTo(5);
+        assertThat(report.getFailures()).allMatch(result -> result.getFailure().get() instanceof AssertionError);
+        try {
+            report.assertAllSucceeded();
+        } catch (AssertionError error) {
+            assertThat(error.getCause()).isInstanceOf(AssertionError.class);
+            return;
+        }
+        throw new AssertionError("The batch report should have failed because of the failed requests");
+    }
+
+    @Test
+    public void testCreateSushiBatch_modelNotRequired_batchSucceedsWithoutDecodingModel() {
+        List<CreateSushiRequest> requests = IntStream.range(0, 5).mapToObj(index -> new CreateSushiRequest()).collect(Collectors.toList());
+
+        // The response cannot be decoded into an Integer, which only fails the requests if something asks for the model.
+        BatchReport<Integer> report = new BatchBuilder<>(new DefaultBastionFactory(), "Create Sushi", requests)
+                .bind(Integer.class)
+                .call();
+
+        report.assertAllSucceeded();
+        assertThat(report.getResponses()).hasSize(5).allMatch(response -> response.getStatusCode() == 201);
+    }
+}
@@ -0,0 +1,44 @@
+package rocks.bastion.support;
+
+import org.junit.Test;
+import rocks.bastion.Bastion;
+import rocks.bastion.core.DefaultBastionFactory;
+import rocks.bastion.core.GeneralRequest;
+import rocks.bastion.core.load.LoadReport;
+import rocks.bastion.core.load.LoadTestBuilder;
+import rocks.bastion.support.embedded.TestWithEmbeddedServer;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GetSushiLoadTest extends TestWithEmbeddedServer {
+
+    @Test
+    public void testGetSushiLoad_Success() {
+        LoadReport report = Bastion.load("Get Sushi", GeneralRequest.get(getUrl("/sushi")))
+                .withAssertions((statusCode, response, model) -> assertThat(statusCode).isEqualTo(200))
+                .atArrivalRate(50)
+                .forDuration(1, TimeUnit.SECONDS)
+                .run();
+
+        assertThat(report.getRequestCount()).isEqualTo(50);
+        assertThat(report.getErrorCount()).isZero();
+        assertThat(report.getThroughput()).isGreaterThan(0);
+        assertThat(report.getLatencyPercentile(50, TimeUnit.NANOSECONDS)).isPositive().isLessThanOrEqualTo(report.getMaxLatency(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testGetSushiLoad_assertionFails_countsErrors() {
+        // Use a separate factory so that the failures are not reported to any test runner which set the default factory.
+        LoadReport report = new LoadTestBuilder<>(new DefaultBastionFactory(), "Get Sushi", Collections.singletonList(GeneralRequest.get(getUrl("/sushi"))))
+                .withAssertions((statusCode, response, model) -> assertThat(statusCode).isEqualTo(500))
+                .atArrivalRate(20)
+                .forDuration(500, TimeUnit.MILLISECONDS)
+                .run();
+
+        assertThat(report.getRequestCount()).isEqualTo(10);
+        assertThat(report.getErrorRate()).isEqualTo(1.0);
+    }
+}
@@ -4,9 +4,18 @@ import org.junit.Test;
 import rocks.bastion.Bastion;
 import rocks.bastion.core.FormUrlEncodedRequest;
 import rocks.bastion.core.GeneralRequest;
+import rocks.bastion.core.builder.BastionBuilder;
+import rocks.bastion.core.builder.PostExecutionBuilder;
+import rocks.bastion.core.event.*;
 import rocks.bastion.core.json.JsonResponseAssertions;
 import rocks.bastion.support.embedded.TestWithEmbeddedServer;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 /**
  * @author <a href="mailto:mail@kylepullicino.com">Kyle</a>
  */
@@ -32,4 +41,46 @@ public class GetSushiTest extends TestWithEmbeddedServer {
         // docs:form-url-encoded-request
     }
 
+    @Test
+    public void testGetNigiri_modelNotRequired_decodesModelOnlyWhenRequested() {
+        PostExecutionBuilder<? extends Integer> response = Bastion.request("Get Nigiri Info", GeneralRequest.get("http://localhost:9876/nigiri"))
+                .bind(Integer.class)
+                .withAssertions(JsonResponseAssertions.fromString(200, "{ \"id\":5, \"name\":\"Salmon Nigiri\", \"price\":23.55 }"))
+                .call();
+
+        assertThat(response.getResponse().getStatusCode()).isEqualTo(200);
+        assertThatThrownBy(response::getModel).isInstanceOf(AssertionError.class).hasMessageContaining("Could not parse response into model object of type java.lang.Integer");
+    }
+
+    @Test
+    public void testGetNigiri_modelNotRequired_decodingFailureNotPublishedWhenModelRequested() {
+        List<BastionFailureEvent> failures = new ArrayList<>();
+        BastionBuilder<Object> bastion = Bastion.request("Get Nigiri Info", GeneralRequest.get("http://localhost:9876/nigiri"));
+        ((BastionEventPublisher) bastion).registerListener(new BastionListener() {
+            @Override
+            public void callStarted(BastionStartedEvent event) {
+            }
+
+            @Override
+            public void callFinished(BastionFinishedEvent event) {
+            }
+
+            @Override
+            public void callFailed(BastionFailureEvent event) {
+                failures.add(event);
+            }
+
+            @Override
+            public void callError(BastionErrorEvent event) {
+            }
+        });
+        PostExecutionBuilder<? extends Integer> response = bastion.bind(Integer.class)
+                .withAssertions(JsonResponseAssertions.fromString(200, "{ \"id\":5, \"name\":\"Salmon Nigiri\", \"price\":23.55 }"))
+                .call();
+        assertThat(failures).isEmpty();
+
+        assertThatThrownBy(response::getModel).isInstanceOf(AssertionError.class).hasMessageContaining("Could not parse response into model object of type java.lang.Integer");
+        assertThat(failures).isEmpty();
+    }
+
 }
@@ -5,9 +5,11 @@ import com.google.gson.JsonParseException;
 import spark.ResponseTransformer;
 import spark.Spark;
 
+import java.io.IOException;
 import java.math.BigDecimal;
-import java.util.HashMap;
+import java.net.Socket;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.stream.Collectors.toList;
@@ -22,7 +24,7 @@ import static spark.Spark.*;
  */
 public class SushiService {
 
-    private Map<Long, Sushi> sushiRepository = new HashMap<>();
+    private Map<Long, Sushi> sushiRepository = new ConcurrentHashMap<>();
     private AtomicLong nextId = new AtomicLong();
     private int port;
     private String restaurantName = "The Sushi Parlour";
@@ -118,10 +120,32 @@ public class SushiService {
             res.header("Content-type", "application/json");
             res.body(json.render(INVALID_ENTITY.toResponse(res, getRootCauseMessage(ex))));
         });
+
+        awaitInitialization();
     }
 
+    /**
+     * Stops the embedded Jetty container and waits until the port is released so that the service can be started again
+     * straight away by the next test class.
+     */
     public void stop() {
         Spark.stop();
+        try {
+            for (int attempt = 0; (attempt < 100) && isPortInUse(); attempt++) {
+                Thread.sleep(50);
+            }
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isPortInUse() {
+        try (Socket ignored = new Socket("localhost", port)) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
     }
 
     /**